@@ -0,0 +1,278 @@
+In the context of developing for cTrader using .NET 6 and C# 10, the `MarketData` sample in the event handling notes raises `PriceChanged?.Invoke(newPrice)` directly from `UpdatePrice`. A multicast delegate calls every subscriber one after another on the publisher's thread, so a single slow `OnPriceChanged` handler in `TradingBot` or `MyTradingBot` holds up every other bot and the feed itself. When dozens of bots share one feed, a better shape is a pre-allocated ring buffer: the producer writes each tick into the next slot and moves on, and every bot reads from the buffer with its own sequence cursor at its own pace.
+
+### How the Ring Buffer Works
+
+* The buffer is an array of slots whose length is a power of two, so the slot for sequence `n` is simply `n & mask`.
+* There is exactly one producer (the feed). It owns the `cursor`, which is the sequence number of the last published tick.
+* Each consumer (bot) owns a private `next` sequence. Nobody else writes it, so consumers never contend with each other.
+* The producer never waits for consumers. If a consumer falls more than `Capacity` ticks behind, the oldest ticks are overwritten; the consumer notices, skips forward to the oldest tick still in the buffer and counts how many it lost (`Lapped`).
+* Every slot carries its own sequence number, which acts as a small seqlock: the consumer only accepts a value if the slot sequence was the same before and after copying it.
+
+### Defining the Tick Payload
+
+The payload is a small `struct`, so publishing a tick copies a few bytes into an existing slot and allocates nothing. The publish timestamp is taken with `Stopwatch.GetTimestamp()` so the consumer can measure publish-to-consume latency.
+
+```csharp
+using System.Diagnostics;
+
+public readonly record struct PriceUpdate(double Price, long PublishedTimestamp)
+{
+    public static PriceUpdate Now(double price) => new(price, Stopwatch.GetTimestamp());
+}
+```
+
+### The Ring Buffer
+
+```csharp
+using System;
+using System.Runtime.InteropServices;
+using System.Threading;
+
+// Keeps a hot counter on its own cache line so the producer and consumers do not false-share
+[StructLayout(LayoutKind.Explicit, Size = 128)]
+public struct PaddedLong
+{
+    [FieldOffset(64)]
+    public long Value;
+}
+
+public delegate void TickHandler<T>(in T tick) where T : struct;
+
+public sealed class TickRingBuffer<T> where T : struct
+{
+    private struct Slot
+    {
+        public long Sequence;
+        public T Value;
+    }
+
+    private readonly Slot[] _slots;
+    private readonly int _mask;
+    private PaddedLong _cursor;
+
+    public TickRingBuffer(int capacity)
+    {
+        if (capacity <= 0 || (capacity & (capacity - 1)) != 0)
+            throw new ArgumentException("Capacity must be a power of two.", nameof(capacity));
+
+        _slots = new Slot[capacity];
+        _mask = capacity - 1;
+
+        for (int i = 0; i < capacity; i++)
+            _slots[i].Sequence = -1;
+
+        _cursor.Value = -1;
+    }
+
+    public int Capacity => _slots.Length;
+
+    // Sequence of the last published tick (-1 before the first publish)
+    public long Cursor => Volatile.Read(ref _cursor.Value);
+
+    // Must only be called from the single producer thread
+    public void Publish(in T value)
+    {
+        long sequence = _cursor.Value + 1;
+        ref Slot slot = ref _slots[sequence & _mask];
+
+        // Mark the slot as being written; the full fence keeps the value write after this
+        Interlocked.Exchange(ref slot.Sequence, -1);
+        slot.Value = value;
+        Volatile.Write(ref slot.Sequence, sequence);
+
+        Volatile.Write(ref _cursor.Value, sequence);
+    }
+
+    // A new consumer starts with the next tick to be published
+    public TickConsumer<T> CreateConsumer() => new TickConsumer<T>(this, Cursor + 1);
+
+    internal bool TryRead(long sequence, out T value)
+    {
+        ref Slot slot = ref _slots[sequence & _mask];
+
+        long before = Volatile.Read(ref slot.Sequence);
+        value = slot.Value;
+        Interlocked.MemoryBarrier();
+        long after = Volatile.Read(ref slot.Sequence);
+
+        return before == sequence && after == sequence;
+    }
+}
+```
+
+### The Consumer Cursor
+
+Each bot gets its own `TickConsumer<T>`. `Poll` hands every available tick to the handler and returns how many it processed, so the caller decides whether to spin, yield or sleep when the buffer is empty.
+
+```csharp
+using System.Threading;
+
+public sealed class TickConsumer<T> where T : struct
+{
+    private readonly TickRingBuffer<T> _ring;
+    private long _next;
+
+    internal TickConsumer(TickRingBuffer<T> ring, long start)
+    {
+        _ring = ring;
+        _next = start;
+    }
+
+    // Number of ticks this consumer missed because it fell more than Capacity behind
+    public long Lapped { get; private set; }
+
+    public long Backlog => _ring.Cursor - _next + 1;
+
+    public int Poll(TickHandler<T> handler, int maxTicks = int.MaxValue)
+    {
+        long available = _ring.Cursor;
+        int processed = 0;
+
+        while (_next <= available && processed < maxTicks)
+        {
+            if (available - _next >= _ring.Capacity)
+            {
+                // The producer has overwritten our position: jump to the oldest tick still present
+                long oldest = available - _ring.Capacity + 1;
+                Lapped += oldest - _next;
+                _next = oldest;
+            }
+
+            if (!_ring.TryRead(_next, out T tick))
+            {
+                // The slot was overwritten while we copied it; re-read the cursor and try again
+                available = _ring.Cursor;
+                continue;
+            }
+
+            handler(in tick);
+            _next++;
+            processed++;
+        }
+
+        return processed;
+    }
+
+    // Runs the consumer on the calling thread until cancelled
+    public void Run(TickHandler<T> handler, CancellationToken token)
+    {
+        var spinner = new SpinWait();
+
+        while (!token.IsCancellationRequested)
+        {
+            if (Poll(handler, 256) > 0)
+                spinner.Reset();
+            else
+                spinner.SpinOnce(); // Spins briefly, then yields and sleeps so idle bots don't burn a core
+        }
+    }
+}
+```
+
+### Measuring Publish-to-Consume Latency
+
+The latency recorder only does integer arithmetic on the consumer thread, so measuring does not distort what it measures. `Stopwatch` ticks are converted to nanoseconds with `Stopwatch.Frequency`.
+
+```csharp
+using System.Diagnostics;
+
+public sealed class LatencyRecorder
+{
+    private static readonly double NanosPerTick = 1_000_000_000.0 / Stopwatch.Frequency;
+
+    private long _count;
+    private long _totalTicks;
+    private long _maxTicks;
+
+    public void Record(long publishedTimestamp)
+    {
+        long elapsed = Stopwatch.GetTimestamp() - publishedTimestamp;
+        _count++;
+        _totalTicks += elapsed;
+        if (elapsed > _maxTicks)
+            _maxTicks = elapsed;
+    }
+
+    public long Count => _count;
+    public double MeanNanoseconds => _count == 0 ? 0 : _totalTicks * NanosPerTick / _count;
+    public double MaxNanoseconds => _maxTicks * NanosPerTick;
+}
+```
+
+### Replacing the PriceChanged Event
+
+`MarketData` keeps the same `UpdatePrice(double)` signature, but instead of invoking subscribers it publishes into the ring buffer. The feed thread now costs a few stores per tick no matter how many bots are attached or how slow they are.
+
+```csharp
+public class MarketData
+{
+    // 4096 ticks of history per consumer before it starts losing ticks
+    public TickRingBuffer<PriceUpdate> Ticks { get; } = new TickRingBuffer<PriceUpdate>(4096);
+
+    public void UpdatePrice(double newPrice)
+    {
+        Ticks.Publish(PriceUpdate.Now(newPrice));
+    }
+}
+```
+
+### Consuming Ticks in a cTrader Bot
+
+Each bot runs its consumer on its own background thread. Trading calls must still happen on the bot's thread, so the handler hands the order back with `BeginInvokeOnMainThread`.
+
+```csharp
+using System.Threading;
+using cAlgo.API;
+
+public class MyTradingBot : Robot
+{
+    private MarketData marketData;
+    private TickConsumer<PriceUpdate> consumer;
+    private CancellationTokenSource cancellation;
+    private Thread consumerThread;
+    private readonly LatencyRecorder latency = new LatencyRecorder();
+
+    protected override void OnStart()
+    {
+        marketData = new MarketData();
+        consumer = marketData.Ticks.CreateConsumer();
+        cancellation = new CancellationTokenSource();
+
+        consumerThread = new Thread(() => consumer.Run(OnPriceChanged, cancellation.Token))
+        {
+            IsBackground = true,
+            Name = "MyTradingBot ticks"
+        };
+        consumerThread.Start();
+    }
+
+    private void OnPriceChanged(in PriceUpdate update)
+    {
+        latency.Record(update.PublishedTimestamp);
+
+        // Implement trading logic based on the new price
+        if (update.Price > 1000)
+        {
+            BeginInvokeOnMainThread(() => ExecuteMarketOrder(TradeType.Buy, SymbolName, 1000));
+        }
+    }
+
+    protected override void OnStop()
+    {
+        cancellation.Cancel();
+        consumerThread.Join();
+
+        Print("Ticks: {0}, lapped: {1}, mean latency: {2:F0} ns, max latency: {3:F0} ns",
+            latency.Count, consumer.Lapped, latency.MeanNanoseconds, latency.MaxNanoseconds);
+    }
+}
+```
+
+### Things to Keep in Mind
+
+* **One producer only:** `Publish` is not safe to call from two threads at once. If several feeds exist, give each its own buffer.
+* **Size the buffer for bursts:** `Capacity` is how far behind a bot may fall before it starts losing ticks. Watch `Lapped` and `Backlog` to tune it.
+* **Wait strategy:** `SpinWait` spins for a short while and then yields, which keeps latency low for busy bots without pinning a core per idle bot. With dozens of bots on a small machine you can instead call `Poll` from a `Timer` or from `OnTick`.
+* **Latency is now the queueing time:** the recorder measures how long a tick waited in the buffer, not how long the handler runs, which makes slow bots visible without slowing down the others.
+
+By replacing the multicast delegate with a single-producer/multi-consumer ring buffer, the feed never blocks on a subscriber, each bot consumes ticks independently, and publish-to-consume latency can be measured in nanoseconds for every bot.
@@ -0,0 +1,199 @@
+In fast markets a cBot can receive ticks faster than it can process them. The `PriceChangeMonitor` sample in the event handling notes handles every tick in `OnTickReceived(object sender, Tick tick)` and then raises `OnPriceChange`, so if the handlers take longer than the gap between ticks the bot falls further and further behind and ends up trading on prices that are seconds old. For slow analytic bots, the usual fix is **conflation**: while the consumer is busy, keep only the latest tick per symbol and count how many were replaced.
+
+**How Conflation Works:**
+
+* Every symbol has one "latest tick" slot.
+* When a tick arrives and the symbol has no pending tick, the tick is stored and the symbol is queued for processing.
+* When a tick arrives and the symbol already has a pending tick, the pending tick is simply overwritten and the symbol's "ticks conflated" counter goes up. The symbol is not queued twice.
+* The consumer takes symbols off the queue in arrival order and always reads the freshest price for that symbol.
+
+This bounds the backlog at one tick per symbol, no matter how fast the market moves.
+
+**Code Sample (Conflating Tick Queue):**
+
+```csharp
+using System.Collections.Generic;
+
+public sealed class ConflatingTickQueue
+{
+    private readonly object _gate = new object();
+    private readonly Dictionary<string, Tick> _latest = new Dictionary<string, Tick>();
+    private readonly Queue<string> _pendingSymbols = new Queue<string>();
+    private readonly Dictionary<string, long> _conflated = new Dictionary<string, long>();
+
+    public int PendingCount
+    {
+        get { lock (_gate) return _pendingSymbols.Count; }
+    }
+
+    // Called on the feed thread; never blocks for longer than a dictionary update
+    public void Offer(string symbolName, Tick tick)
+    {
+        lock (_gate)
+        {
+            if (_latest.ContainsKey(symbolName))
+            {
+                // A tick for this symbol is still waiting: replace it with the newer one
+                _latest[symbolName] = tick;
+                _conflated.TryGetValue(symbolName, out long count);
+                _conflated[symbolName] = count + 1;
+                return;
+            }
+
+            _latest[symbolName] = tick;
+            _pendingSymbols.Enqueue(symbolName);
+        }
+    }
+
+    // Called on the consumer thread
+    public bool TryTake(out string symbolName, out Tick tick)
+    {
+        lock (_gate)
+        {
+            if (_pendingSymbols.Count == 0)
+            {
+                symbolName = null;
+                tick = default;
+                return false;
+            }
+
+            symbolName = _pendingSymbols.Dequeue();
+            tick = _latest[symbolName];
+            _latest.Remove(symbolName);
+            return true;
+        }
+    }
+
+    public long GetConflatedCount(string symbolName)
+    {
+        lock (_gate)
+        {
+            return _conflated.TryGetValue(symbolName, out long count) ? count : 0;
+        }
+    }
+
+    public IReadOnlyDictionary<string, long> GetConflatedCounts()
+    {
+        lock (_gate)
+        {
+            return new Dictionary<string, long>(_conflated);
+        }
+    }
+}
+```
+
+**Adding an Opt-In Conflation Mode to PriceChangeMonitor:**
+
+Conflation is off by default, so the monitor behaves exactly like before. When `ConflationEnabled` is set, `OnTickReceived` only stores the tick and makes sure one drain worker is running; the worker raises `OnPriceChange` with the freshest tick for each symbol. The `_draining` flag guarantees there is never more than one worker, so handlers still see ticks one at a time. The worker is a ThreadPool thread, so with conflation on, `OnPriceChange` handlers no longer run on the thread that raised `Events.OnTick`.
+
+```csharp
+using System;
+using System.Collections.Generic;
+using System.Threading;
+
+public class PriceChangeMonitor : cTrader.CBot.CBot
+{
+    public event EventHandler<Tick> OnPriceChange; // Event for price change
+
+    private readonly ConflatingTickQueue _conflationQueue = new ConflatingTickQueue();
+    private int _draining; // 1 while a drain worker is running
+
+    // Opt-in: when true, a busy consumer only sees the latest tick per symbol
+    public bool ConflationEnabled { get; set; }
+
+    public PriceChangeMonitor()
+    {
+        // Subscribe to OnTick event of the cTrader platform
+        Subscription subscription = Events.OnTick += OnTickReceived;
+    }
+
+    public long GetConflatedCount(string symbolName) => _conflationQueue.GetConflatedCount(symbolName);
+
+    public IReadOnlyDictionary<string, long> GetConflatedCounts() => _conflationQueue.GetConflatedCounts();
+
+    private void OnTickReceived(object sender, Tick tick)
+    {
+        if (!ConflationEnabled)
+        {
+            ProcessTick(tick);
+            return;
+        }
+
+        _conflationQueue.Offer(tick.SymbolName, tick);
+        ScheduleDrain();
+    }
+
+    private void ScheduleDrain()
+    {
+        if (Interlocked.CompareExchange(ref _draining, 1, 0) == 0)
+        {
+            ThreadPool.UnsafeQueueUserWorkItem(_ => Drain(), null);
+        }
+    }
+
+    // Runs on a ThreadPool thread, not the event thread: OnPriceChange handlers run here too
+    private void Drain()
+    {
+        while (true)
+        {
+            while (_conflationQueue.TryTake(out _, out Tick tick))
+            {
+                ProcessTick(tick);
+            }
+
+            Volatile.Write(ref _draining, 0);
+
+            // A tick may have arrived after the last TryTake but before the flag was cleared
+            if (_conflationQueue.PendingCount == 0 || Interlocked.CompareExchange(ref _draining, 1, 0) != 0)
+                return;
+        }
+    }
+
+    private void ProcessTick(Tick tick)
+    {
+        // Event handler code - executes for every tick, or for the freshest tick when conflating
+        Console.WriteLine("New Tick Received: {0} - {1}", tick.Ask, tick.Bid);
+        OnPriceChange?.Invoke(this, tick); // Raise the custom event if subscribed
+    }
+}
+```
+
+**Using Conflation in a Slow Strategy:**
+
+```csharp
+public class SlowAnalyticsStrategy : cTrader.CBot.CBot
+{
+    private PriceChangeMonitor priceMonitor;
+
+    public SlowAnalyticsStrategy()
+    {
+        priceMonitor = new PriceChangeMonitor { ConflationEnabled = true };
+        priceMonitor.OnPriceChange += OnPriceUpdate;
+    }
+
+    private void OnPriceUpdate(object sender, Tick tick)
+    {
+        // Runs on the drain worker, not the bot thread. Expensive analysis is fine here;
+        // ticks that arrive meanwhile are conflated instead of queued. Trading and bot state
+        // must be handed back to the bot thread (BeginInvokeOnMainThread in a cBot).
+        RunAnalysis(tick);
+    }
+
+    protected override void OnStop()
+    {
+        foreach (var entry in priceMonitor.GetConflatedCounts())
+        {
+            Console.WriteLine("{0}: {1} ticks conflated", entry.Key, entry.Value);
+        }
+    }
+}
+```
+
+**When to Use Conflation:**
+
+* Use it for strategies that only care about the current price: signal scanners, dashboards, risk monitors and slow indicators.
+* Do not use it when every tick matters, for example tick-volume counters, tick-based bars or recording a journal; those need the full stream.
+* Expect a thread change: with conflation on, `OnPriceChange` is raised on a ThreadPool worker instead of the event thread. Handlers that place orders or touch bot state must marshal that work back to the bot thread, as the ring buffer and sharded event loop notes do, or protect the shared state themselves.
+* Watch the conflated counters. A steadily growing count shows that the bot cannot keep up with the market and may need a cheaper calculation.
+
+By making conflation opt-in, fast bots keep processing every tick as before, while slow analytic bots always act on the freshest price and can no longer build an unbounded backlog in fast markets.
@@ -0,0 +1,211 @@
+In the `MyTradingBot` sample from the notes on storing values in cTrader, `Symbols.SubscribeMarketData(Symbol, MarketDataUpdate)` calls `MarketDataUpdate(MarketDataEventArgs args)` once per tick, and the handler copies `args.Bid` and `args.Ask` into fields before running the whole indicator and signal pipeline. At 50,000 ticks per second across 20 symbols, the per-tick event objects and the per-tick work they trigger become the main source of garbage collection pressure. A common fix in .NET 6 and C# 10 is to collect ticks into a reusable **struct-of-arrays** batch and hand the whole batch to a batch callback.
+
+### Struct-of-Arrays vs Array-of-Objects
+
+* **Array-of-objects:** every tick is its own object (`MarketDataEventArgs`, `Tick`), allocated on the heap and later collected.
+* **Struct-of-arrays:** one object owns parallel primitive arrays (`double[] Bid`, `double[] Ask`, `long[] TimestampNanos`, `int[] SymbolId`). Tick `i` is the values at index `i` in each array. The arrays are allocated once and reused forever.
+
+Primitive arrays are also cache-friendly: a loop that only looks at `Bid` walks one contiguous block of memory.
+
+### A Nanosecond Timestamp
+
+Ticks are stamped with nanoseconds since the Unix epoch stored in a `long`, so they can be compared, subtracted and written to disk without `DateTime` conversions. `DateTime` has 100 ns resolution, which is enough for tick data.
+
+```csharp
+using System;
+
+public static class NanoTime
+{
+    private const long NanosPerDateTimeTick = 100;
+
+    public static long UtcNow => FromDateTime(DateTime.UtcNow);
+
+    public static long FromDateTime(DateTime utc) => (utc.Ticks - DateTime.UnixEpoch.Ticks) * NanosPerDateTimeTick;
+
+    public static DateTime ToDateTime(long nanos) => new DateTime(DateTime.UnixEpoch.Ticks + nanos / NanosPerDateTimeTick, DateTimeKind.Utc);
+}
+```
+
+### Defining the TickBatch Type
+
+```csharp
+using System;
+
+public sealed class TickBatch
+{
+    public TickBatch(int capacity)
+    {
+        if (capacity <= 0)
+            throw new ArgumentOutOfRangeException(nameof(capacity));
+
+        Bid = new double[capacity];
+        Ask = new double[capacity];
+        TimestampNanos = new long[capacity];
+        SymbolId = new int[capacity];
+    }
+
+    // Parallel arrays: tick i is Bid[i], Ask[i], TimestampNanos[i], SymbolId[i]
+    public double[] Bid { get; }
+    public double[] Ask { get; }
+    public long[] TimestampNanos { get; }
+    public int[] SymbolId { get; }
+
+    public int Count { get; private set; }
+    public int Capacity => Bid.Length;
+    public bool IsFull => Count == Bid.Length;
+
+    // Views over the filled part of the batch
+    public ReadOnlySpan<double> Bids => Bid.AsSpan(0, Count);
+    public ReadOnlySpan<double> Asks => Ask.AsSpan(0, Count);
+    public ReadOnlySpan<long> Timestamps => TimestampNanos.AsSpan(0, Count);
+    public ReadOnlySpan<int> SymbolIds => SymbolId.AsSpan(0, Count);
+
+    public bool TryAdd(int symbolId, double bid, double ask, long timestampNanos)
+    {
+        if (Count == Bid.Length)
+            return false;
+
+        int i = Count;
+        Bid[i] = bid;
+        Ask[i] = ask;
+        TimestampNanos[i] = timestampNanos;
+        SymbolId[i] = symbolId;
+        Count = i + 1;
+        return true;
+    }
+
+    public void Clear() => Count = 0;
+}
+```
+
+### Delivering Ticks in Batches
+
+The `TickBatcher` owns one `TickBatch` and delivers it to a batch callback when it is full or when `Flush` is called. The batch is cleared and reused after the callback returns, so the callback must not keep a reference to it; copy out anything it needs.
+
+```csharp
+public delegate void TickBatchHandler(TickBatch batch);
+
+public sealed class TickBatcher
+{
+    private readonly TickBatch _batch;
+    private readonly TickBatchHandler _onBatch;
+
+    public TickBatcher(int capacity, TickBatchHandler onBatch)
+    {
+        _batch = new TickBatch(capacity);
+        _onBatch = onBatch;
+    }
+
+    public long BatchesDelivered { get; private set; }
+
+    public void Add(int symbolId, double bid, double ask, long timestampNanos)
+    {
+        if (!_batch.TryAdd(symbolId, bid, ask, timestampNanos))
+        {
+            Flush();
+            _batch.TryAdd(symbolId, bid, ask, timestampNanos);
+        }
+    }
+
+    public void Flush()
+    {
+        if (_batch.Count == 0)
+            return;
+
+        _onBatch(_batch);
+        BatchesDelivered++;
+        _batch.Clear();
+    }
+}
+```
+
+### Using the Batch Callback in a cTrader Bot
+
+`MarketDataUpdate` now only appends the prices to the batch. The expensive work moves to `OnTickBatch`, which runs once per batch and only looks at the latest price of each symbol. A one millisecond timer flushes partially filled batches so quiet markets do not wait for the batch to fill up. Both the market data handler and `OnTimer` run on the bot's thread, so the batcher needs no locks.
+
+```csharp
+using System;
+using cAlgo.API;
+
+namespace cAlgo
+{
+    [Robot(TimeZone = TimeZones.UTC, AccessRights = AccessRights.None)]
+    public class MyTradingBot : Robot
+    {
+        private const int MainSymbolId = 0;
+
+        private TickBatcher tickBatcher;
+        private double bidPrice;
+        private double askPrice;
+
+        protected override void OnStart()
+        {
+            tickBatcher = new TickBatcher(1024, OnTickBatch);
+
+            // Subscribe to market data updates
+            Symbols.SubscribeMarketData(Symbol, MarketDataUpdate);
+
+            // Deliver partial batches at least once per millisecond
+            Timer.Start(TimeSpan.FromMilliseconds(1));
+        }
+
+        private void MarketDataUpdate(MarketDataEventArgs args)
+        {
+            // Hot path: four array stores, no allocation
+            tickBatcher.Add(MainSymbolId, args.Bid, args.Ask, NanoTime.UtcNow);
+        }
+
+        protected override void OnTimer()
+        {
+            tickBatcher.Flush();
+        }
+
+        private void OnTickBatch(TickBatch batch)
+        {
+            // Only the most recent tick of the batch drives the strategy
+            int last = batch.Count - 1;
+            bidPrice = batch.Bid[last];
+            askPrice = batch.Ask[last];
+
+            CalculateIndicators();
+            GenerateTradingSignals();
+            ExecuteTrades();
+        }
+
+        protected override void OnStop()
+        {
+            Timer.Stop();
+            tickBatcher.Flush();
+        }
+
+        // CalculateIndicators, GenerateTradingSignals and ExecuteTrades as in the original sample
+    }
+}
+```
+
+### Working with Many Symbols
+
+When a batch mixes symbols, loop over `SymbolIds` and keep per-symbol state in arrays indexed by the id. The loop below finds the latest bid for each symbol without touching the heap:
+
+```csharp
+private readonly double[] latestBid = new double[20];
+
+private void OnTickBatch(TickBatch batch)
+{
+    ReadOnlySpan<int> ids = batch.SymbolIds;
+    ReadOnlySpan<double> bids = batch.Bids;
+
+    for (int i = 0; i < ids.Length; i++)
+    {
+        latestBid[ids[i]] = bids[i];
+    }
+}
+```
+
+### Things to Keep in Mind
+
+* **Batch size vs latency:** a larger batch means fewer callbacks but a longer wait for the first tick in it. The flush timer caps that wait; 256–1024 ticks with a 1 ms flush is a reasonable start.
+* **Reuse, don't retain:** the batch is overwritten after the callback returns. Copy values into your own fields if you need them later.
+* **Same thread:** `TickBatcher` is not thread-safe. Call `Add` and `Flush` from the same thread, as the bot above does.
+
+By moving from one event object per tick to a reusable struct-of-arrays batch, the hot path becomes a handful of primitive stores, the garbage collector has nothing to collect, and the strategy logic runs once per batch instead of once per tick.
@@ -0,0 +1,205 @@
+In the collections notes, prices are kept in a `Dictionary<string, double> symbolPrices` keyed by `"EURUSD"`, `"GBPUSD"` and so on, and the bots compare `Symbol.Name` strings all over the place. Every lookup hashes the string and compares it character by character. That is fine once per bar, but on every tick for every symbol it adds up. In C# 10 (.NET 6) the usual answer is to **intern** each symbol name to a small integer id once, when the bot subscribes, and keep hot data in plain arrays indexed by that id.
+
+**Interning Symbols:**
+
+* Interning means giving every distinct name exactly one id. The first symbol registered gets `0`, the next `1`, and so on, so the ids are dense and can be used directly as array indices.
+* Registration happens once per symbol at subscription time, under a lock. After that, the hot path never touches the string again.
+* Reading the name back from an id is an array load, useful for logging and order placement.
+
+**Code Sample (Symbol Registry):**
+
+```csharp
+using System;
+using System.Collections.Generic;
+using System.Threading;
+
+public sealed class SymbolRegistry
+{
+    private readonly object _gate = new object();
+    private readonly Dictionary<string, int> _ids = new Dictionary<string, int>(StringComparer.Ordinal);
+    private readonly string[] _names;
+    private int _count;
+
+    public SymbolRegistry(int maxSymbols)
+    {
+        _names = new string[maxSymbols];
+    }
+
+    public int Count => Volatile.Read(ref _count);
+    public int MaxSymbols => _names.Length;
+
+    // Call once per symbol at subscription time, not on the hot path
+    public int Intern(string symbolName)
+    {
+        lock (_gate)
+        {
+            if (_ids.TryGetValue(symbolName, out int id))
+                return id;
+
+            if (_count == _names.Length)
+                throw new InvalidOperationException($"Symbol registry is full ({_names.Length} symbols).");
+
+            id = _count;
+            _names[id] = symbolName;
+            _ids.Add(symbolName, id);
+            Volatile.Write(ref _count, id + 1);
+            return id;
+        }
+    }
+
+    public bool TryGetId(string symbolName, out int id)
+    {
+        lock (_gate)
+        {
+            return _ids.TryGetValue(symbolName, out id);
+        }
+    }
+
+    public string GetName(int id)
+    {
+        if ((uint)id >= (uint)Count)
+            throw new ArgumentOutOfRangeException(nameof(id));
+
+        return _names[id];
+    }
+}
+```
+
+**Code Sample (Array-Backed Last-Price Table):**
+
+The price table is sized to the registry's capacity, so registering a new symbol never has to resize it. Reading a price is a single array load with the symbol id as the index.
+
+```csharp
+public sealed class PriceTable
+{
+    private readonly double[] _bid;
+    private readonly double[] _ask;
+    private readonly long[] _timestampNanos;
+
+    public PriceTable(SymbolRegistry registry)
+    {
+        _bid = new double[registry.MaxSymbols];
+        _ask = new double[registry.MaxSymbols];
+        _timestampNanos = new long[registry.MaxSymbols];
+    }
+
+    public void Update(int symbolId, double bid, double ask, long timestampNanos)
+    {
+        _bid[symbolId] = bid;
+        _ask[symbolId] = ask;
+        _timestampNanos[symbolId] = timestampNanos;
+    }
+
+    public double Bid(int symbolId) => _bid[symbolId];
+    public double Ask(int symbolId) => _ask[symbolId];
+    public double Mid(int symbolId) => (_bid[symbolId] + _ask[symbolId]) * 0.5;
+    public long LastUpdateNanos(int symbolId) => _timestampNanos[symbolId];
+
+    // Applies a whole TickBatch; later ticks for the same symbol overwrite earlier ones
+    public void Update(TickBatch batch)
+    {
+        for (int i = 0; i < batch.Count; i++)
+        {
+            int id = batch.SymbolId[i];
+            _bid[id] = batch.Bid[i];
+            _ask[id] = batch.Ask[i];
+            _timestampNanos[id] = batch.TimestampNanos[i];
+        }
+    }
+}
+```
+
+**Replacing the String Dictionary:**
+
+Before:
+
+```csharp
+Dictionary<string, double> symbolPrices = new Dictionary<string, double>();
+symbolPrices["EURUSD"] = 1.2;
+double priceEURUSD = symbolPrices["EURUSD"]; // hashes "EURUSD" on every lookup
+```
+
+After:
+
+```csharp
+var registry = new SymbolRegistry(maxSymbols: 64);
+var prices = new PriceTable(registry);
+
+int eurusd = registry.Intern("EURUSD"); // once, at subscription time
+
+prices.Update(eurusd, 1.2000, 1.2002, NanoTime.UtcNow);
+double priceEURUSD = prices.Bid(eurusd); // one array load
+```
+
+**Using the Registry in a Multi-Symbol cBot:**
+
+The bot interns each symbol in `OnStart`, keeps the ids in fields, and passes the id into the tick batcher. Comparisons between symbols become integer comparisons instead of `Symbol.Name == "EURUSD"`.
+
+```csharp
+using System;
+using cAlgo.API;
+
+namespace cAlgo
+{
+    [Robot(TimeZone = TimeZones.UTC, AccessRights = AccessRights.None)]
+    public class MultiSymbolBot : Robot
+    {
+        private static readonly string[] SymbolNames = { "EURUSD", "GBPUSD", "USDJPY", "AUDUSD" };
+
+        private readonly SymbolRegistry registry = new SymbolRegistry(64);
+        private PriceTable prices;
+        private TickBatcher tickBatcher;
+        private int eurusdId;
+        private int gbpusdId;
+
+        protected override void OnStart()
+        {
+            prices = new PriceTable(registry);
+            tickBatcher = new TickBatcher(1024, OnTickBatch);
+
+            foreach (string name in SymbolNames)
+            {
+                // Intern once and capture the id in the subscription
+                int id = registry.Intern(name);
+                Symbols.SubscribeMarketData(Symbols.GetSymbol(name),
+                    args => tickBatcher.Add(id, args.Bid, args.Ask, NanoTime.UtcNow));
+            }
+
+            eurusdId = registry.Intern("EURUSD");
+            gbpusdId = registry.Intern("GBPUSD");
+
+            Timer.Start(TimeSpan.FromMilliseconds(1));
+        }
+
+        protected override void OnTimer()
+        {
+            tickBatcher.Flush();
+        }
+
+        private void OnTickBatch(TickBatch batch)
+        {
+            prices.Update(batch);
+
+            // A symbol without a tick yet has a mid of 0, which would fake a huge spread
+            if (prices.LastUpdateNanos(eurusdId) == 0 || prices.LastUpdateNanos(gbpusdId) == 0)
+                return;
+
+            // Hot path: integer ids and array loads only
+            double spread = prices.Mid(eurusdId) - prices.Mid(gbpusdId);
+            if (spread > 0.1500 && Positions.Find("Spread", registry.GetName(eurusdId)) == null)
+            {
+                ExecuteMarketOrder(TradeType.Sell, registry.GetName(eurusdId), 1000, "Spread");
+            }
+        }
+    }
+}
+```
+
+**Tips:**
+
+* Intern at subscription time only. Calling `Intern` per tick puts the dictionary lookup (and the lock) back on the hot path.
+* Choose `maxSymbols` with headroom; the registry throws rather than silently resizing, so arrays indexed by id stay valid for the bot's lifetime.
+* Ids are local to a registry. Share one `SymbolRegistry` between components that exchange ids (batchers, price tables, indicators) so the same id always means the same symbol.
+* `PriceTable` is updated from one thread. A reader on another thread may see a new bid with the previous ask for a moment; read both on the updating thread if you need a consistent pair.
+
+By interning symbol names once and keeping prices in arrays indexed by dense ids, every hot-path price lookup becomes a single array load instead of string hashing and comparison.
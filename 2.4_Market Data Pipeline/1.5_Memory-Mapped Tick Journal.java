@@ -0,0 +1,350 @@
+In the context of developing for cTrader using .NET 6 and C# 10, nothing in the market data path of the samples (`MarketData.UpdatePrice`, `PriceChangeMonitor.OnTickReceived`, `MarketDataUpdate`) keeps a record of what was received. When a bot misbehaves, the exact tick sequence that caused it is gone, and the platform's history is usually aggregated or filtered. A **tick journal** writes every inbound tick to disk so it can later be replayed, audited or used in a post-mortem.
+
+To keep the cost on the feed thread close to zero, the journal uses a memory-mapped file: the file's pages are mapped into the process's address space, so writing a tick is just copying 32 bytes into memory. The operating system writes the dirty pages to disk in the background.
+
+### Journal Format
+
+* **Fixed-size records:** every tick is one 32-byte `TickRecord`, so record `n` is always at `HeaderSize + n * RecordSize`. Readers can seek anywhere without parsing.
+* **Append-only:** records are only ever added at the end; nothing is rewritten.
+* **Rolling files:** each file holds a fixed number of records. When it is full, the writer closes it and opens the next one (`ticks-20240315-0000.tkj`, `ticks-20240315-0001.tkj`, ...).
+* **Header:** the first 64 bytes hold a magic number, format version, record size, capacity and the final record count.
+* **Symbol sidecar:** record ids come from the `SymbolRegistry`, so each file gets a `.symbols` text file listing `id,name` to make the journal self-describing. It is written when the file is opened and appended to before the first record of a newly interned symbol, so it is complete even if the process crashes.
+
+| Offset | Size | Field |
+|--------|------|-------|
+| 0  | 8 | `TimestampNanos` (Unix epoch, nanoseconds) |
+| 8  | 4 | `SymbolId` |
+| 12 | 4 | `Flags` (reserved) |
+| 16 | 8 | `Bid` |
+| 24 | 8 | `Ask` |
+
+### Defining the Record
+
+```csharp
+using System.Runtime.InteropServices;
+
+[StructLayout(LayoutKind.Sequential, Pack = 8)]
+public struct TickRecord
+{
+    public long TimestampNanos;
+    public int SymbolId;
+    public int Flags;
+    public double Bid;
+    public double Ask;
+}
+```
+
+### The Journal Writer
+
+```csharp
+using System;
+using System.IO;
+using System.IO.MemoryMappedFiles;
+using System.Linq;
+using System.Runtime.CompilerServices;
+
+public sealed class TickJournalWriter : IDisposable
+{
+    public const int HeaderSize = 64;
+    public const int Magic = 0x314A4B54; // "TKJ1"
+    public const int Version = 1;
+    public static readonly int RecordSize = Unsafe.SizeOf<TickRecord>();
+
+    private readonly string _directory;
+    private readonly string _prefix;
+    private readonly long _recordsPerFile;
+    private readonly SymbolRegistry _registry;
+
+    private MemoryMappedFile _file;
+    private MemoryMappedViewAccessor _view;
+    private long _position;
+    private long _recordsInFile;
+    private int _fileIndex;
+    private int _symbolsWritten; // Ids below this are already in the current sidecar
+
+    public TickJournalWriter(string directory, SymbolRegistry registry, string prefix = "ticks", long recordsPerFile = 2_000_000)
+    {
+        _directory = directory;
+        _registry = registry;
+        _prefix = prefix;
+        _recordsPerFile = recordsPerFile;
+
+        Directory.CreateDirectory(directory);
+        Open();
+    }
+
+    public string CurrentPath { get; private set; }
+    public long TotalRecords { get; private set; }
+
+    // Must be called from a single thread (the feed thread)
+    public void Append(int symbolId, double bid, double ask, long timestampNanos)
+    {
+        var record = new TickRecord
+        {
+            TimestampNanos = timestampNanos,
+            SymbolId = symbolId,
+            Bid = bid,
+            Ask = ask
+        };
+
+        Append(ref record);
+    }
+
+    public void Append(ref TickRecord record)
+    {
+        if (_recordsInFile == _recordsPerFile)
+            Roll();
+
+        // One comparison per tick; the file is only touched when a new symbol shows up
+        if (record.SymbolId >= _symbolsWritten)
+            AppendSymbols();
+
+        _view.Write(_position, ref record);
+        _position += RecordSize;
+        _recordsInFile++;
+        TotalRecords++;
+    }
+
+    public void Append(TickBatch batch)
+    {
+        for (int i = 0; i < batch.Count; i++)
+        {
+            Append(batch.SymbolId[i], batch.Bid[i], batch.Ask[i], batch.TimestampNanos[i]);
+        }
+    }
+
+    // Asks the OS to write dirty pages now; call from a timer, not per tick
+    public void Flush() => _view.Flush();
+
+    public void Dispose() => Close();
+
+    private void Open()
+    {
+        string date = DateTime.UtcNow.ToString("yyyyMMdd");
+        do
+        {
+            CurrentPath = Path.Combine(_directory, $"{_prefix}-{date}-{_fileIndex:D4}.tkj");
+            _fileIndex++;
+        }
+        while (File.Exists(CurrentPath));
+
+        long capacity = HeaderSize + _recordsPerFile * RecordSize;
+        _file = MemoryMappedFile.CreateFromFile(CurrentPath, FileMode.CreateNew, null, capacity, MemoryMappedFileAccess.ReadWrite);
+        _view = _file.CreateViewAccessor(0, capacity, MemoryMappedFileAccess.ReadWrite);
+
+        _view.Write(0, Magic);
+        _view.Write(4, Version);
+        _view.Write(8, RecordSize);
+        _view.Write(16, _recordsPerFile);
+        _view.Write(24, 0L); // record count, filled in on close
+        _view.Write(32, NanoTime.UtcNow);
+
+        _position = HeaderSize;
+        _recordsInFile = 0;
+
+        _symbolsWritten = 0;
+        File.WriteAllText(SymbolsPath, string.Empty);
+        AppendSymbols();
+    }
+
+    private string SymbolsPath => CurrentPath + ".symbols";
+
+    private void Close()
+    {
+        if (_view == null)
+            return;
+
+        _view.Write(24, _recordsInFile);
+        _view.Flush();
+        _view.Dispose();
+        _file.Dispose();
+        _view = null;
+        _file = null;
+    }
+
+    private void Roll()
+    {
+        Close();
+        Open();
+    }
+
+    // Appends the names interned since the last call, before any record uses their ids
+    private void AppendSymbols()
+    {
+        int count = _registry.Count;
+        if (count == _symbolsWritten)
+            return;
+
+        var lines = Enumerable.Range(_symbolsWritten, count - _symbolsWritten).Select(id => $"{id},{_registry.GetName(id)}");
+        File.AppendAllLines(SymbolsPath, lines);
+        _symbolsWritten = count;
+    }
+}
+```
+
+### Reading the Journal Back
+
+The reader maps a file read-only and copies records into a `TickBatch`, so replays and audits can use the same batch callbacks as the live feed. If the process crashed before `Close` wrote the record count, the reader stops at the first empty record instead, because a memory-mapped file is zero-filled when it is created. The `.symbols` sidecar needs no such recovery: it already lists every id used by a record in the file.
+
+```csharp
+using System;
+using System.IO;
+using System.IO.MemoryMappedFiles;
+using System.Linq;
+
+public sealed class TickJournalReader : IDisposable
+{
+    private readonly MemoryMappedFile _file;
+    private readonly MemoryMappedViewAccessor _view;
+    private long _next;
+
+    public TickJournalReader(string path)
+    {
+        Path = path;
+        _file = MemoryMappedFile.CreateFromFile(path, FileMode.Open, null, 0, MemoryMappedFileAccess.Read);
+        _view = _file.CreateViewAccessor(0, 0, MemoryMappedFileAccess.Read);
+
+        if (_view.ReadInt32(0) != TickJournalWriter.Magic || _view.ReadInt32(8) != TickJournalWriter.RecordSize)
+            throw new InvalidDataException($"{path} is not a tick journal file.");
+
+        Capacity = _view.ReadInt64(16);
+        RecordCount = _view.ReadInt64(24);
+        if (RecordCount == 0)
+            RecordCount = CountWrittenRecords();
+    }
+
+    public string Path { get; }
+    public long Capacity { get; }
+    public long RecordCount { get; }
+
+    // Journal files in write order
+    public static string[] GetFiles(string directory, string prefix = "ticks") =>
+        Directory.GetFiles(directory, prefix + "-*.tkj").OrderBy(f => f, StringComparer.Ordinal).ToArray();
+
+    public static string[] ReadSymbolNames(string journalPath) =>
+        File.ReadAllLines(journalPath + ".symbols").Select(line => line.Substring(line.IndexOf(',') + 1)).ToArray();
+
+    public void Seek(long recordIndex) => _next = recordIndex;
+
+    public bool TryRead(out TickRecord record)
+    {
+        if (_next >= RecordCount)
+        {
+            record = default;
+            return false;
+        }
+
+        _view.Read(OffsetOf(_next++), out record);
+        return true;
+    }
+
+    // Fills the batch with the next records; returns the number read (0 at end of file)
+    public int ReadBatch(TickBatch batch)
+    {
+        batch.Clear();
+        while (!batch.IsFull && TryRead(out TickRecord record))
+        {
+            batch.TryAdd(record.SymbolId, record.Bid, record.Ask, record.TimestampNanos);
+        }
+        return batch.Count;
+    }
+
+    public void Dispose()
+    {
+        _view.Dispose();
+        _file.Dispose();
+    }
+
+    private static long OffsetOf(long index) => TickJournalWriter.HeaderSize + index * TickJournalWriter.RecordSize;
+
+    private long CountWrittenRecords()
+    {
+        long count = 0;
+        while (count < Capacity && _view.ReadInt64(OffsetOf(count)) != 0)
+            count++;
+        return count;
+    }
+}
+```
+
+### Journaling in the Market Data Path
+
+Journaling is one call at the very start of the handler, before any strategy logic, so the journal records what was received even if the handler later throws.
+
+```csharp
+public class MarketData
+{
+    private readonly TickJournalWriter journal;
+    private readonly int symbolId;
+
+    public MarketData(TickJournalWriter journal, int symbolId)
+    {
+        this.journal = journal;
+        this.symbolId = symbolId;
+    }
+
+    public TickRingBuffer<PriceUpdate> Ticks { get; } = new TickRingBuffer<PriceUpdate>(4096);
+
+    public void UpdatePrice(double newPrice)
+    {
+        journal.Append(symbolId, newPrice, newPrice, NanoTime.UtcNow);
+        Ticks.Publish(PriceUpdate.Now(newPrice));
+    }
+}
+```
+
+In a cBot, the writer is created in `OnStart`, fed from the market data handler, flushed from the timer and disposed in `OnStop`:
+
+```csharp
+using System;
+using System.IO;
+using cAlgo.API;
+
+namespace cAlgo
+{
+    [Robot(TimeZone = TimeZones.UTC, AccessRights = AccessRights.FullAccess)]
+    public class JournalingBot : Robot
+    {
+        private readonly SymbolRegistry registry = new SymbolRegistry(64);
+        private TickJournalWriter journal;
+        private int symbolId;
+
+        protected override void OnStart()
+        {
+            symbolId = registry.Intern(SymbolName);
+            string directory = Path.Combine(Environment.GetFolderPath(Environment.SpecialFolder.MyDocuments), "TickJournal");
+            journal = new TickJournalWriter(directory, registry);
+
+            Symbols.SubscribeMarketData(Symbol, MarketDataUpdate);
+            Timer.Start(TimeSpan.FromSeconds(1));
+        }
+
+        private void MarketDataUpdate(MarketDataEventArgs args)
+        {
+            journal.Append(symbolId, args.Bid, args.Ask, NanoTime.UtcNow);
+            // ... strategy logic
+        }
+
+        protected override void OnTimer()
+        {
+            journal.Flush();
+        }
+
+        protected override void OnStop()
+        {
+            journal.Dispose();
+            Print("Journaled {0} ticks, last file {1}", journal.TotalRecords, journal.CurrentPath);
+        }
+    }
+}
+```
+
+### Things to Keep in Mind
+
+* **Access rights:** writing files requires `AccessRights.FullAccess` on the robot attribute.
+* **One writer per journal:** `TickJournalWriter` is single-threaded. Give each feed thread its own writer and prefix, or funnel ticks through the ring buffer to one journaling consumer.
+* **Durability:** a store into a mapped page survives a crash of the bot process, because the page belongs to the OS cache. It does not survive a power loss until the page is written; `Flush` once per second limits that window.
+* **Rolling cost:** opening a new file happens once per `recordsPerFile` ticks (2 million records is 64 MB). The first write to each new page costs a page fault, which is the only noticeable latency the journal adds.
+* **Disk usage:** at 50,000 ticks per second a full day is roughly 140 GB, so compress or delete old files on a schedule outside the bot.
+
+By writing every tick as a fixed-size record into a memory-mapped, append-only journal, the feed thread pays only a memory copy per tick, and you get an exact record of what each bot saw that can drive replays, audits and post-mortems without downloading history again.
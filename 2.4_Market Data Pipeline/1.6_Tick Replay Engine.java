@@ -0,0 +1,337 @@
+In the context of developing for cTrader using .NET 6 and C# 10, a cBot such as `MyTradingBot : Robot` is driven by the platform through its lifecycle methods: `OnStart`, then `OnTick` for every tick and `OnBar` for every closed bar, and finally `OnStop`. Once ticks are recorded in the tick journal, the same lifecycle can be driven offline by a **replay engine**. This lets you reproduce a production incident tick for tick, and regression-test a strategy change against real sequences instead of synthetic data.
+
+### Separating the Strategy from the Robot
+
+The platform creates `Robot` instances itself and its lifecycle methods are `protected`, so they cannot be called from outside. The usual approach is to move the strategy logic into a plain class with the same lifecycle, and let the live robot and the replay engine both drive it.
+
+```csharp
+using cAlgo.API;
+
+public interface IOrderGateway
+{
+    void ExecuteMarketOrder(int symbolId, TradeType tradeType, double volume, string label);
+}
+
+public sealed class ReplayContext
+{
+    public ReplayContext(SymbolRegistry symbols, IOrderGateway orders)
+    {
+        Symbols = symbols;
+        Prices = new PriceTable(symbols);
+        Orders = orders;
+    }
+
+    public SymbolRegistry Symbols { get; }
+    public PriceTable Prices { get; }
+    public IOrderGateway Orders { get; }
+
+    // Time of the tick being processed, nanoseconds since the Unix epoch
+    public long CurrentTimeNanos { get; internal set; }
+}
+
+public interface IReplayStrategy
+{
+    void OnStart(ReplayContext context);
+    void OnTick(in TickRecord tick);
+    void OnBar(int symbolId, in OhlcBar bar);
+    void OnStop();
+}
+```
+
+`OnTick` receives the journal's `TickRecord` by `in` reference and `OnBar` receives a small `OhlcBar` struct, so driving the strategy allocates nothing per tick.
+
+```csharp
+public struct OhlcBar
+{
+    public long OpenTimeNanos;
+    public double Open;
+    public double High;
+    public double Low;
+    public double Close;
+    public long TickVolume;
+}
+```
+
+### Speeds
+
+* **1x (`RealTime`):** ticks are delivered with the same gaps as they were recorded. Useful for watching an incident unfold on a chart.
+* **Nx (`Accelerated`):** gaps are divided by `SpeedMultiplier`, e.g. 60x replays an hour in a minute.
+* **Max (`MaxThroughput`):** no waiting at all. The engine reads batches from the memory-mapped journal and calls the strategy in a tight loop, which is what regression tests use.
+
+```csharp
+using System;
+
+public enum ReplaySpeed
+{
+    RealTime,
+    Accelerated,
+    MaxThroughput
+}
+
+public sealed class ReplayOptions
+{
+    public ReplaySpeed Speed { get; init; } = ReplaySpeed.MaxThroughput;
+    public double SpeedMultiplier { get; init; } = 1.0;
+    public BarTimeframe BarTimeframe { get; init; } = BarTimeframe.M1;
+    public int BatchSize { get; init; } = 4096;
+}
+
+public readonly record struct ReplayResult(long Ticks, long Bars, TimeSpan Elapsed)
+{
+    public double TicksPerSecond => Elapsed.TotalSeconds > 0 ? Ticks / Elapsed.TotalSeconds : 0;
+}
+```
+
+### The Replay Engine
+
+The engine walks the journal files in order. Symbol ids from each file's `.symbols` sidecar are remapped into the context's registry, so a strategy always sees the same id for the same symbol. Bars are built per symbol from the bid price by the streaming `BarAggregator`: when a tick falls into a new bar of the chosen timeframe, the previous bar is closed and `OnBar` is called before the tick is delivered, which is the same order the platform uses.
+
+```csharp
+using System;
+using System.Collections.Generic;
+using System.Diagnostics;
+using System.Threading;
+
+public sealed class TickReplayEngine
+{
+    private readonly ReplayOptions _options;
+
+    public TickReplayEngine(ReplayOptions options)
+    {
+        if (options.Speed == ReplaySpeed.Accelerated && options.SpeedMultiplier <= 0)
+            throw new ArgumentOutOfRangeException(nameof(options), "SpeedMultiplier must be positive.");
+
+        _options = options;
+    }
+
+    public ReplayResult Run(IReadOnlyList<string> journalFiles, IReplayStrategy strategy, ReplayContext context,
+        CancellationToken cancellationToken = default)
+    {
+        double speed = _options.Speed switch
+        {
+            ReplaySpeed.RealTime => 1.0,
+            ReplaySpeed.Accelerated => _options.SpeedMultiplier,
+            _ => 0.0
+        };
+
+        BarTimeframe barTimeframe = _options.BarTimeframe;
+        long barCount = 0;
+        var bars = new BarAggregator(context.Symbols.MaxSymbols, (int symbolId, BarTimeframe timeframe, in OhlcBar bar) =>
+        {
+            if (timeframe == barTimeframe)
+            {
+                strategy.OnBar(symbolId, in bar);
+                barCount++;
+            }
+        });
+
+        var batch = new TickBatch(_options.BatchSize);
+        var clock = Stopwatch.StartNew();
+        long firstTickNanos = 0;
+        long ticks = 0;
+
+        strategy.OnStart(context);
+
+        foreach (string file in journalFiles)
+        {
+            int[] remap = BuildRemap(file, context.Symbols);
+
+            if (cancellationToken.IsCancellationRequested)
+                break;
+
+            using var reader = new TickJournalReader(file);
+
+            // Cancellation is checked once per batch, not per tick
+            while (!cancellationToken.IsCancellationRequested && reader.ReadBatch(batch) > 0)
+            {
+                for (int i = 0; i < batch.Count; i++)
+                {
+                    var tick = new TickRecord
+                    {
+                        TimestampNanos = batch.TimestampNanos[i],
+                        SymbolId = remap[batch.SymbolId[i]],
+                        Bid = batch.Bid[i],
+                        Ask = batch.Ask[i]
+                    };
+
+                    if (ticks == 0)
+                        firstTickNanos = tick.TimestampNanos;
+
+                    if (speed > 0)
+                        WaitUntil(clock, (tick.TimestampNanos - firstTickNanos) / speed);
+
+                    context.CurrentTimeNanos = tick.TimestampNanos;
+                    context.Prices.Update(tick.SymbolId, tick.Bid, tick.Ask, tick.TimestampNanos);
+
+                    bars.OnTick(tick.SymbolId, tick.Bid, tick.TimestampNanos);
+
+                    strategy.OnTick(in tick);
+                    ticks++;
+                }
+            }
+        }
+
+        strategy.OnStop();
+        clock.Stop();
+        return new ReplayResult(ticks, barCount, clock.Elapsed);
+    }
+
+    private static int[] BuildRemap(string journalFile, SymbolRegistry registry)
+    {
+        string[] names = TickJournalReader.ReadSymbolNames(journalFile);
+        var remap = new int[names.Length];
+        for (int id = 0; id < names.Length; id++)
+            remap[id] = registry.Intern(names[id]);
+        return remap;
+    }
+
+    private static void WaitUntil(Stopwatch clock, double targetNanos)
+    {
+        double nanosPerTick = 1_000_000_000.0 / Stopwatch.Frequency;
+        while (true)
+        {
+            double remaining = targetNanos - clock.ElapsedTicks * nanosPerTick;
+            if (remaining <= 0)
+                return;
+
+            if (remaining > 2_000_000)
+                Thread.Sleep(1); // Coarse wait for long gaps
+            else
+                Thread.SpinWait(50); // Fine wait for the last couple of milliseconds
+        }
+    }
+}
+```
+
+### A Strategy That Runs Live and in Replay
+
+The strategy only talks to the `ReplayContext`, so it does not know whether ticks come from the platform or from a journal.
+
+```csharp
+using cAlgo.API;
+
+public sealed class BreakoutStrategy : IReplayStrategy
+{
+    private ReplayContext context;
+    private int eurusd;
+    private double lastBarHigh;
+
+    public void OnStart(ReplayContext context)
+    {
+        this.context = context;
+        eurusd = context.Symbols.Intern("EURUSD");
+    }
+
+    public void OnBar(int symbolId, in OhlcBar bar)
+    {
+        if (symbolId == eurusd)
+            lastBarHigh = bar.High;
+    }
+
+    public void OnTick(in TickRecord tick)
+    {
+        if (tick.SymbolId == eurusd && lastBarHigh > 0 && tick.Ask > lastBarHigh)
+        {
+            context.Orders.ExecuteMarketOrder(eurusd, TradeType.Buy, 1000, "Breakout");
+            lastBarHigh = double.MaxValue; // One entry per bar
+        }
+    }
+
+    public void OnStop()
+    {
+    }
+}
+```
+
+Live, the robot forwards its lifecycle to the strategy and supplies an order gateway that calls the real trading API:
+
+```csharp
+using cAlgo.API;
+
+namespace cAlgo
+{
+    [Robot(TimeZone = TimeZones.UTC, AccessRights = AccessRights.None)]
+    public class MyTradingBot : Robot, IOrderGateway
+    {
+        private readonly SymbolRegistry registry = new SymbolRegistry(64);
+        private readonly BreakoutStrategy strategy = new BreakoutStrategy();
+        private ReplayContext context;
+        private int symbolId;
+
+        protected override void OnStart()
+        {
+            symbolId = registry.Intern(SymbolName);
+            context = new ReplayContext(registry, this);
+            strategy.OnStart(context);
+        }
+
+        protected override void OnTick()
+        {
+            var tick = new TickRecord { TimestampNanos = NanoTime.FromDateTime(Server.TimeInUtc), SymbolId = symbolId, Bid = Symbol.Bid, Ask = Symbol.Ask };
+            context.CurrentTimeNanos = tick.TimestampNanos;
+            context.Prices.Update(symbolId, tick.Bid, tick.Ask, tick.TimestampNanos);
+            strategy.OnTick(in tick);
+        }
+
+        protected override void OnBar()
+        {
+            var last = Bars.Last(1);
+            var bar = new OhlcBar { OpenTimeNanos = NanoTime.FromDateTime(last.OpenTime), Open = last.Open, High = last.High, Low = last.Low, Close = last.Close, TickVolume = (long)last.TickVolume };
+            strategy.OnBar(symbolId, in bar);
+        }
+
+        protected override void OnStop()
+        {
+            strategy.OnStop();
+        }
+
+        public void ExecuteMarketOrder(int id, TradeType tradeType, double volume, string label)
+        {
+            ExecuteMarketOrder(tradeType, registry.GetName(id), volume, label);
+        }
+    }
+}
+```
+
+Offline, the same strategy is replayed at maximum speed with a gateway that just records the orders, which is all a regression test needs to compare two versions of a strategy:
+
+```csharp
+using System;
+using System.Collections.Generic;
+using cAlgo.API;
+
+public sealed class RecordingOrderGateway : IOrderGateway
+{
+    public List<string> Orders { get; } = new List<string>();
+
+    public void ExecuteMarketOrder(int symbolId, TradeType tradeType, double volume, string label)
+    {
+        Orders.Add($"{symbolId} {tradeType} {volume} {label}");
+    }
+}
+
+public static class ReplayProgram
+{
+    public static void Main(string[] args)
+    {
+        var registry = new SymbolRegistry(64);
+        var orders = new RecordingOrderGateway();
+        var context = new ReplayContext(registry, orders);
+        var engine = new TickReplayEngine(new ReplayOptions { Speed = ReplaySpeed.MaxThroughput });
+
+        ReplayResult result = engine.Run(TickJournalReader.GetFiles(args[0]), new BreakoutStrategy(), context);
+
+        Console.WriteLine("{0:N0} ticks, {1:N0} bars in {2} ({3:N0} ticks/s), {4} orders",
+            result.Ticks, result.Bars, result.Elapsed, result.TicksPerSecond, orders.Orders.Count);
+    }
+}
+```
+
+### Keeping Max Mode Fast
+
+* **No allocation per tick:** ticks are read into a reusable `TickBatch` and passed as `in TickRecord`; bars are structs held in an array indexed by symbol id.
+* **Sequential memory-mapped reads:** the journal is read front to back, which the OS prefetches very effectively.
+* **Check cancellation per batch, not per tick:** the token is checked once every `BatchSize` ticks.
+* **Keep the strategy cheap:** at several million ticks per second, a single `Print` or string format inside `OnTick` will dominate the run time. Record results into arrays and report them in `OnStop`.
+
+By driving the same `OnStart`/`OnTick`/`OnBar`/`OnStop` lifecycle from recorded journal files at 1x, Nx or maximum speed, you can reproduce production incidents offline and regression-test strategy changes against the exact tick sequences the live bots saw.
@@ -0,0 +1,229 @@
+In cTrader, `OnBar` is called by the platform when a bar of the robot's timeframe closes, and samples such as `IndicatorDataSeries.Get("Moving Average", Periodicity.M15)` assume the bars already exist. A bot that needs several timeframes usually requests history once per timeframe and symbol. When you already receive every tick (from the ring buffer, a `TickBatch` or the tick journal), you can instead build all timeframes yourself in a single pass over the tick stream with a **streaming bar aggregator**.
+
+### How the Aggregator Works
+
+* Every tick updates only the current **M1** bar of its symbol: compare with high and low, set the close, add to the volume.
+* When a tick falls into a new minute, the M1 bar is closed, its close event is raised, and the finished M1 bar is **folded** into the M5, M15, H1 and D1 bars that are still forming.
+* After folding, each higher timeframe checks whether the new tick belongs to a new bucket. If so, that bar is closed and its event is raised too.
+
+Because higher timeframes are built from closed M1 bars, each tick costs one bar update no matter how many timeframes are tracked. All bars live in one pre-allocated array indexed by `symbolId * TimeframeCount + timeframe`, so memory is fixed once the aggregator is created.
+
+### Timeframes
+
+```csharp
+public enum BarTimeframe
+{
+    M1,
+    M5,
+    M15,
+    H1,
+    D1
+}
+
+public static class BarTimeframes
+{
+    public const int Count = 5;
+
+    private static readonly long[] Nanos =
+    {
+        60L * 1_000_000_000,
+        5 * 60L * 1_000_000_000,
+        15 * 60L * 1_000_000_000,
+        60 * 60L * 1_000_000_000,
+        24 * 60 * 60L * 1_000_000_000
+    };
+
+    public static long DurationNanos(BarTimeframe timeframe) => Nanos[(int)timeframe];
+
+    // Start of the bar that contains the timestamp (D1 bars start at 00:00 UTC)
+    public static long OpenTime(BarTimeframe timeframe, long timestampNanos)
+    {
+        long duration = Nanos[(int)timeframe];
+        return timestampNanos - timestampNanos % duration;
+    }
+}
+```
+
+### The Bar Aggregator
+
+The aggregator reuses the `OhlcBar` struct from the replay engine, where `TickVolume` is the V in OHLCV. Closed bars are passed to the callback by `in` reference, so raising an event allocates nothing.
+
+```csharp
+using System;
+
+public delegate void BarClosedHandler(int symbolId, BarTimeframe timeframe, in OhlcBar bar);
+
+public sealed class BarAggregator
+{
+    private readonly OhlcBar[] _bars;
+    private readonly bool[] _hasBar;
+    private readonly BarClosedHandler _onBarClosed;
+
+    public BarAggregator(int maxSymbols, BarClosedHandler onBarClosed)
+    {
+        _bars = new OhlcBar[maxSymbols * BarTimeframes.Count];
+        _hasBar = new bool[maxSymbols * BarTimeframes.Count];
+        _onBarClosed = onBarClosed;
+    }
+
+    public void OnTick(int symbolId, double price, long timestampNanos)
+    {
+        int m1 = symbolId * BarTimeframes.Count;
+        long m1Open = BarTimeframes.OpenTime(BarTimeframe.M1, timestampNanos);
+
+        if (_hasBar[m1] && _bars[m1].OpenTimeNanos != m1Open)
+        {
+            OhlcBar closedM1 = _bars[m1];
+            _onBarClosed(symbolId, BarTimeframe.M1, in closedM1);
+
+            for (int tf = 1; tf < BarTimeframes.Count; tf++)
+            {
+                Fold(m1 + tf, (BarTimeframe)tf, in closedM1);
+            }
+
+            _hasBar[m1] = false;
+        }
+
+        // Close every higher timeframe the new tick has moved past
+        for (int tf = 1; tf < BarTimeframes.Count; tf++)
+        {
+            int slot = m1 + tf;
+            if (_hasBar[slot] && _bars[slot].OpenTimeNanos != BarTimeframes.OpenTime((BarTimeframe)tf, timestampNanos))
+            {
+                _onBarClosed(symbolId, (BarTimeframe)tf, in _bars[slot]);
+                _hasBar[slot] = false;
+            }
+        }
+
+        ref OhlcBar bar = ref _bars[m1];
+        if (!_hasBar[m1])
+        {
+            bar = new OhlcBar { OpenTimeNanos = m1Open, Open = price, High = price, Low = price, Close = price, TickVolume = 1 };
+            _hasBar[m1] = true;
+            return;
+        }
+
+        if (price > bar.High) bar.High = price;
+        if (price < bar.Low) bar.Low = price;
+        bar.Close = price;
+        bar.TickVolume++;
+    }
+
+    public void OnTicks(TickBatch batch)
+    {
+        for (int i = 0; i < batch.Count; i++)
+        {
+            OnTick(batch.SymbolId[i], batch.Bid[i], batch.TimestampNanos[i]);
+        }
+    }
+
+    // The bar still forming for a timeframe, including the ticks of the current minute
+    public bool TryGetFormingBar(int symbolId, BarTimeframe timeframe, out OhlcBar bar)
+    {
+        int m1 = symbolId * BarTimeframes.Count;
+        int slot = m1 + (int)timeframe;
+
+        if (timeframe == BarTimeframe.M1 || !_hasBar[slot])
+        {
+            bar = _bars[m1];
+            if (_hasBar[m1] && timeframe != BarTimeframe.M1)
+                bar.OpenTimeNanos = BarTimeframes.OpenTime(timeframe, bar.OpenTimeNanos);
+            return _hasBar[m1];
+        }
+
+        bar = _bars[slot];
+        if (_hasBar[m1])
+            Merge(ref bar, in _bars[m1]);
+        return true;
+    }
+
+    private void Fold(int slot, BarTimeframe timeframe, in OhlcBar closedM1)
+    {
+        if (!_hasBar[slot])
+        {
+            _bars[slot] = closedM1;
+            _bars[slot].OpenTimeNanos = BarTimeframes.OpenTime(timeframe, closedM1.OpenTimeNanos);
+            _hasBar[slot] = true;
+            return;
+        }
+
+        Merge(ref _bars[slot], in closedM1);
+    }
+
+    private static void Merge(ref OhlcBar target, in OhlcBar later)
+    {
+        if (later.High > target.High) target.High = later.High;
+        if (later.Low < target.Low) target.Low = later.Low;
+        target.Close = later.Close;
+        target.TickVolume += later.TickVolume;
+    }
+}
+```
+
+A bar only closes when a later tick arrives for the same symbol, which is also how the platform behaves. Note that a closed M1 bar is folded before the higher timeframe is checked, so the M5 bar that ends at 10:05 already contains the 10:04 minute when its close event is raised.
+
+### Using the Aggregator in a cBot
+
+One subscription feeds all timeframes of all symbols. The close handler dispatches on the timeframe with an integer switch rather than string lookups.
+
+```csharp
+using System;
+using cAlgo.API;
+
+namespace cAlgo
+{
+    [Robot(TimeZone = TimeZones.UTC, AccessRights = AccessRights.None)]
+    public class MultiTimeframeBot : Robot
+    {
+        private readonly SymbolRegistry registry = new SymbolRegistry(64);
+        private BarAggregator bars;
+        private int symbolId;
+        private double lastH1Close;
+
+        protected override void OnStart()
+        {
+            symbolId = registry.Intern(SymbolName);
+            bars = new BarAggregator(registry.MaxSymbols, OnBarClosed);
+        }
+
+        protected override void OnTick()
+        {
+            bars.OnTick(symbolId, Symbol.Bid, NanoTime.FromDateTime(Server.TimeInUtc));
+        }
+
+        private void OnBarClosed(int id, BarTimeframe timeframe, in OhlcBar bar)
+        {
+            switch (timeframe)
+            {
+                case BarTimeframe.H1:
+                    lastH1Close = bar.Close;
+                    break;
+
+                case BarTimeframe.M15:
+                    // Trade M15 closes in the direction of the last H1 close
+                    if (lastH1Close > 0 && bar.Close > lastH1Close && bar.Close > bar.Open)
+                        ExecuteMarketOrder(TradeType.Buy, registry.GetName(id), 1000, "M15 with H1");
+                    break;
+            }
+        }
+    }
+}
+```
+
+### Driving OnBar During Replay
+
+The replay engine builds its bars with the same aggregator, so `OnBar` fires for the timeframe chosen in `ReplayOptions.BarTimeframe` exactly as it would from the live feed:
+
+```csharp
+var engine = new TickReplayEngine(new ReplayOptions { Speed = ReplaySpeed.MaxThroughput, BarTimeframe = BarTimeframe.M15 });
+```
+
+### Things to Keep in Mind
+
+* **Fixed memory:** the aggregator holds `maxSymbols * 5` bars, about 48 bytes each. 1,000 symbols need less than 250 KB, and nothing grows during the day.
+* **Bid-based bars:** cTrader charts are built from bid prices, so pass the bid to stay consistent with the platform's bars.
+* **Day boundary:** D1 bars start at 00:00 UTC. If your broker's trading day starts at 17:00 New York time, shift the timestamp before calling `OnTick`.
+* **Gaps:** if a symbol has no ticks for a whole bar, no empty bar is emitted; the next event is the bar in which trading resumed.
+* **Single thread:** call `OnTick` for a given aggregator from one thread, e.g. the bot thread or a symbol shard.
+
+By building M1, M5, M15, H1 and D1 bars incrementally from a single pass over the tick stream, every timeframe of every symbol is available in fixed memory with bar-close events, and the bot no longer needs to request history separately for each timeframe.
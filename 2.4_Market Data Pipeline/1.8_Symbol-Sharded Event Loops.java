@@ -0,0 +1,279 @@
+In the asynchronous programming notes, `ProcessMultipleMarketsAsync(IEnumerable<double[]> marketData)` fans the work out with `Task.WhenAll`. Every call runs on whichever thread-pool thread is free, so two updates for the same market can run at the same time or finish out of order, and any per-market state (a running average, an open position flag) needs a lock. With 20+ markets this becomes both a correctness risk and a contention point. A common alternative in .NET 6 and C# 10 is a **sharded executor**: each symbol is hashed to one fixed worker thread, and that thread processes all of its symbols' messages one at a time, in order.
+
+**How Sharding Works:**
+
+* The executor starts a fixed number of worker threads ("shards"), usually one per core.
+* A symbol always maps to the same shard (`symbolId % ShardCount`), so all of its messages are processed in arrival order on one thread.
+* Per-symbol state is only ever touched by its owning shard, so it needs no locks.
+* Different symbols on different shards run in parallel, so 20 markets spread over all cores.
+* Optionally, each worker thread can be pinned to a CPU core so its caches stay warm.
+
+**Code Sample (Sharded Executor):**
+
+Messages are structs passed to a single handler supplied at construction, so posting a market update does not allocate a delegate or a task. `FlushAsync` puts a barrier into every shard's queue and completes when every shard has processed everything posted before it.
+
+```csharp
+using System;
+using System.Collections.Concurrent;
+using System.Threading;
+using System.Threading.Tasks;
+
+public delegate void ShardHandler<TMessage>(int symbolId, in TMessage message);
+
+public sealed class SymbolShardedExecutor<TMessage> : IDisposable
+{
+    private struct Envelope
+    {
+        public int SymbolId;
+        public TMessage Message;
+        public TaskCompletionSource Barrier;
+    }
+
+    private readonly BlockingCollection<Envelope>[] _queues;
+    private readonly Thread[] _workers;
+    private readonly ShardHandler<TMessage> _handler;
+
+    public SymbolShardedExecutor(ShardHandler<TMessage> handler, int shardCount = 0, bool pinThreads = false)
+    {
+        if (shardCount <= 0)
+            shardCount = Environment.ProcessorCount;
+
+        _handler = handler;
+        _queues = new BlockingCollection<Envelope>[shardCount];
+        _workers = new Thread[shardCount];
+
+        for (int shard = 0; shard < shardCount; shard++)
+        {
+            _queues[shard] = new BlockingCollection<Envelope>(new ConcurrentQueue<Envelope>());
+
+            int captured = shard;
+            _workers[shard] = new Thread(() => RunShard(captured, pinThreads))
+            {
+                IsBackground = true,
+                Name = $"Shard {shard}"
+            };
+            _workers[shard].Start();
+        }
+    }
+
+    public int ShardCount => _queues.Length;
+
+    // Dense ids from the SymbolRegistry spread evenly across shards
+    public int ShardOf(int symbolId) => (int)((uint)symbolId % (uint)_queues.Length);
+
+    public int QueueLength(int shard) => _queues[shard].Count;
+
+    public void Post(int symbolId, in TMessage message)
+    {
+        _queues[ShardOf(symbolId)].Add(new Envelope { SymbolId = symbolId, Message = message });
+    }
+
+    // Completes once every message posted before the call has been handled
+    public Task FlushAsync()
+    {
+        var barriers = new Task[_queues.Length];
+        for (int shard = 0; shard < _queues.Length; shard++)
+        {
+            var barrier = new TaskCompletionSource(TaskCreationOptions.RunContinuationsAsynchronously);
+            _queues[shard].Add(new Envelope { Barrier = barrier });
+            barriers[shard] = barrier.Task;
+        }
+        return Task.WhenAll(barriers);
+    }
+
+    public void Dispose()
+    {
+        foreach (var queue in _queues)
+            queue.CompleteAdding();
+
+        foreach (var worker in _workers)
+            worker.Join();
+    }
+
+    private void RunShard(int shard, bool pinThread)
+    {
+        bool pinned = pinThread && ThreadAffinity.PinCurrentThread(shard % Environment.ProcessorCount);
+        try
+        {
+            foreach (Envelope envelope in _queues[shard].GetConsumingEnumerable())
+            {
+                if (envelope.Barrier != null)
+                {
+                    envelope.Barrier.TrySetResult();
+                    continue;
+                }
+
+                try
+                {
+                    _handler(envelope.SymbolId, in envelope.Message);
+                }
+                catch (Exception ex)
+                {
+                    // One bad message must not kill the shard and stall every symbol on it
+                    Console.WriteLine($"Shard {shard} error for symbol {envelope.SymbolId}: {ex.Message}");
+                }
+            }
+        }
+        finally
+        {
+            if (pinned)
+                ThreadAffinity.UnpinCurrentThread();
+        }
+    }
+}
+```
+
+**Pinning Threads (Optional):**
+
+.NET has no managed API for thread affinity, so pinning goes through the operating system. cTrader runs on Windows, where `SetThreadAffinityMask` pins the calling OS thread. The call is best-effort: if it fails the shard simply keeps running unpinned. A pinned shard releases its thread affinity when its loop exits.
+
+```csharp
+using System;
+using System.Runtime.InteropServices;
+using System.Threading;
+
+public static class ThreadAffinity
+{
+    [DllImport("kernel32.dll")]
+    private static extern IntPtr GetCurrentThread();
+
+    [DllImport("kernel32.dll")]
+    private static extern UIntPtr SetThreadAffinityMask(IntPtr thread, UIntPtr mask);
+
+    public static bool PinCurrentThread(int core)
+    {
+        if (!OperatingSystem.IsWindows() || core >= 64)
+            return false;
+
+        // Keep this managed thread on the same OS thread while it is pinned
+        Thread.BeginThreadAffinity();
+        if (SetThreadAffinityMask(GetCurrentThread(), new UIntPtr(1UL << core)) != UIntPtr.Zero)
+            return true;
+
+        Thread.EndThreadAffinity();
+        return false;
+    }
+
+    // Call on the same thread when a successfully pinned thread stops its loop
+    public static void UnpinCurrentThread() => Thread.EndThreadAffinity();
+}
+```
+
+Pinning needs `AccessRights.FullAccess`. Only pin when the machine is dedicated to the bots; pinning more shards than there are free cores makes latency worse, not better.
+
+**Rewriting ProcessMultipleMarketsAsync:**
+
+The original method receives an anonymous list of price arrays, so it cannot know which market an array belongs to. The sharded version takes the symbol id with each update. Each shard keeps its symbols' moving averages in plain arrays indexed by symbol id; because a symbol is only ever processed by one thread, the arrays need no locks.
+
+```csharp
+using System;
+using System.Collections.Generic;
+using System.Threading.Tasks;
+
+public readonly record struct MarketUpdate(double[] Prices);
+
+public sealed class MultiMarketProcessor : IDisposable
+{
+    private readonly double[] _movingAverages;
+    private readonly SymbolShardedExecutor<MarketUpdate> _executor;
+
+    public MultiMarketProcessor(SymbolRegistry registry, bool pinThreads = false)
+    {
+        _movingAverages = new double[registry.MaxSymbols];
+        _executor = new SymbolShardedExecutor<MarketUpdate>(ProcessMarket, pinThreads: pinThreads);
+    }
+
+    public async Task ProcessMultipleMarketsAsync(IEnumerable<(int SymbolId, double[] Prices)> marketData)
+    {
+        // Each market's updates are handled in order on its own shard
+        foreach (var (symbolId, prices) in marketData)
+        {
+            _executor.Post(symbolId, new MarketUpdate(prices));
+        }
+
+        await _executor.FlushAsync();
+        // Process aggregated results: _movingAverages is now up to date for every market
+    }
+
+    public double GetMovingAverage(int symbolId) => _movingAverages[symbolId];
+
+    private void ProcessMarket(int symbolId, in MarketUpdate update)
+    {
+        double sum = 0;
+        foreach (double price in update.Prices)
+            sum += price;
+
+        _movingAverages[symbolId] = sum / update.Prices.Length;
+    }
+
+    public void Dispose() => _executor.Dispose();
+}
+```
+
+Reading `GetMovingAverage` from another thread is safe after `FlushAsync` completes, because completing the barrier task publishes everything the shard wrote before it.
+
+**Feeding Shards from Live Ticks:**
+
+The same executor can sit behind the tick feed. The bot posts each tick to its symbol's shard and moves on immediately; the shard runs the per-symbol strategy logic in order.
+
+```csharp
+using cAlgo.API;
+
+namespace cAlgo
+{
+    [Robot(TimeZone = TimeZones.UTC, AccessRights = AccessRights.FullAccess)]
+    public class ShardedMarketsBot : Robot
+    {
+        private static readonly string[] SymbolNames =
+        {
+            "EURUSD", "GBPUSD", "USDJPY", "AUDUSD", "USDCAD", "USDCHF", "NZDUSD", "EURGBP", "EURJPY", "GBPJPY",
+            "AUDJPY", "EURAUD", "EURCHF", "GBPCHF", "CADJPY", "AUDNZD", "NZDJPY", "GBPAUD", "EURCAD", "XAUUSD"
+        };
+
+        private readonly SymbolRegistry registry = new SymbolRegistry(64);
+        private SymbolShardedExecutor<TickRecord> shards;
+        private double[] lastBid;
+
+        protected override void OnStart()
+        {
+            lastBid = new double[registry.MaxSymbols];
+            // Unpinned: one shard per core would pin every core, including those cTrader itself needs
+            shards = new SymbolShardedExecutor<TickRecord>(OnShardTick);
+
+            foreach (string name in SymbolNames)
+            {
+                int id = registry.Intern(name);
+                Symbols.SubscribeMarketData(Symbols.GetSymbol(name), args =>
+                    shards.Post(id, new TickRecord { SymbolId = id, Bid = args.Bid, Ask = args.Ask, TimestampNanos = NanoTime.UtcNow }));
+            }
+        }
+
+        // Runs on the symbol's shard thread; per-symbol state needs no locks
+        private void OnShardTick(int symbolId, in TickRecord tick)
+        {
+            double previous = lastBid[symbolId];
+            lastBid[symbolId] = tick.Bid;
+
+            if (previous > 0 && tick.Bid - previous > 0.0020)
+            {
+                string name = registry.GetName(symbolId);
+                BeginInvokeOnMainThread(() => ExecuteMarketOrder(TradeType.Buy, name, 1000, "Momentum"));
+            }
+        }
+
+        protected override void OnStop()
+        {
+            shards.Dispose();
+        }
+    }
+}
+```
+
+**Things to Keep in Mind:**
+
+* **Ordering is per symbol, not global:** EURUSD and GBPUSD may be processed in either order relative to each other. Strategies that compare two symbols should put both on the same shard, for example by posting the pair to the shard of the first leg.
+* **Hot shards:** if one symbol is much busier than the rest, its shard is the bottleneck. Watch `QueueLength` per shard and move heavy symbols apart by choosing their registration order.
+* **Trading calls:** cTrader API methods must run on the bot's thread, so hand orders back with `BeginInvokeOnMainThread`, as above.
+* **Blocking handlers:** a handler that waits on I/O blocks every symbol on that shard. Keep handlers CPU-only and push I/O elsewhere.
+
+By hashing every symbol to a fixed worker thread, each market is processed strictly in order without locks on its state, while 20 or more markets still scale across all available cores.
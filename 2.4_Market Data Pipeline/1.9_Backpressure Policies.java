@@ -0,0 +1,308 @@
+In the context of developing for cTrader using .NET 6 and C# 10, `Symbols.SubscribeMarketData(Symbol, MarketDataUpdate)` has no notion of a slow subscriber. If ticks are queued for a bot that cannot keep up, the queue grows without limit, and during a news spike one runaway bot can make the whole host run out of memory. The fix is **backpressure**: every subscription gets a bounded queue and a policy that decides what happens when that queue is full.
+
+### Backpressure Policies
+
+| Policy | When the queue is full | Good for |
+|--------|------------------------|----------|
+| `Block` | The publisher waits until the subscriber frees a slot. | Journals and recorders that must see every tick, on a dedicated feed. |
+| `DropOldest` | The oldest queued tick is discarded to make room. | Bots that want a recent, continuous stream. |
+| `ConflateLatest` | The newest queued tick is overwritten by the incoming one. | Bots that only care about the latest price. |
+| `Disconnect` | The subscription is closed and its queue released. | Non-essential consumers that must never affect anyone else. |
+
+`Block` is the only policy that can slow the feed down, so use it only where losing a tick is worse than delaying every other subscriber.
+
+### Subscription Options and Counters
+
+```csharp
+public enum BackpressurePolicy
+{
+    Block,
+    DropOldest,
+    ConflateLatest,
+    Disconnect
+}
+
+public sealed class SubscriptionOptions
+{
+    public int Capacity { get; init; } = 1024;
+    public BackpressurePolicy Policy { get; init; } = BackpressurePolicy.DropOldest;
+    public string Name { get; init; } = "subscription";
+}
+```
+
+### The Bounded Subscription
+
+Each subscription owns a fixed-size circular queue of `TickRecord` structs and a worker thread that delivers ticks to the handler. The queue is allocated once, so a subscription can never use more memory than `Capacity` ticks, whatever the market does.
+
+```csharp
+using System;
+using System.Threading;
+
+public sealed class MarketDataSubscription : IDisposable
+{
+    private readonly object _gate = new object();
+    private readonly TickRecord[] _queue;
+    private readonly TickHandler<TickRecord> _handler;
+    private readonly Action<MarketDataSubscription> _detach;
+    private readonly Thread _worker;
+    private int _head;
+    private int _count;
+    private bool _closed;
+    private long _delivered;
+
+    // detach removes the subscription from its hub, so disposing it directly is enough
+    internal MarketDataSubscription(int symbolId, TickHandler<TickRecord> handler, SubscriptionOptions options,
+        Action<MarketDataSubscription> detach)
+    {
+        if (options.Capacity <= 0)
+            throw new ArgumentOutOfRangeException(nameof(options), "Capacity must be positive.");
+
+        SymbolId = symbolId;
+        Options = options;
+        _queue = new TickRecord[options.Capacity];
+        _handler = handler;
+        _detach = detach;
+        _worker = new Thread(Run) { IsBackground = true, Name = options.Name };
+        _worker.Start();
+    }
+
+    public int SymbolId { get; }
+    public SubscriptionOptions Options { get; }
+
+    public int QueueDepth { get { lock (_gate) return _count; } }
+    public int MaxQueueDepth { get; private set; }
+    public long Delivered => Interlocked.Read(ref _delivered);
+    public long Dropped { get; private set; }
+    public long Conflated { get; private set; }
+    public bool IsDisconnected { get; private set; }
+
+    public event Action<MarketDataSubscription> Disconnected;
+
+    // Called on the feed thread; only the Block policy can make it wait
+    internal void Offer(in TickRecord tick)
+    {
+        bool disconnect = false;
+
+        lock (_gate)
+        {
+            if (_closed)
+                return;
+
+            if (_count == _queue.Length)
+            {
+                switch (Options.Policy)
+                {
+                    case BackpressurePolicy.Block:
+                        while (_count == _queue.Length && !_closed)
+                            Monitor.Wait(_gate);
+                        if (_closed)
+                            return;
+                        break;
+
+                    case BackpressurePolicy.DropOldest:
+                        _head = (_head + 1) % _queue.Length;
+                        _count--;
+                        Dropped++;
+                        break;
+
+                    case BackpressurePolicy.ConflateLatest:
+                        _queue[(_head + _count - 1) % _queue.Length] = tick;
+                        Conflated++;
+                        return;
+
+                    case BackpressurePolicy.Disconnect:
+                        Dropped += _count + 1;
+                        _count = 0;
+                        _closed = true;
+                        IsDisconnected = true;
+                        disconnect = true;
+                        Monitor.PulseAll(_gate);
+                        break;
+                }
+            }
+
+            if (!disconnect)
+            {
+                _queue[(_head + _count) % _queue.Length] = tick;
+                _count++;
+                if (_count > MaxQueueDepth)
+                    MaxQueueDepth = _count;
+                Monitor.PulseAll(_gate);
+            }
+        }
+
+        // Still on the feed thread: handlers must not Dispose (which joins the worker) or block.
+        // The worker sees _closed and exits on its own.
+        if (disconnect)
+            Disconnected?.Invoke(this);
+    }
+
+    public void Dispose()
+    {
+        lock (_gate)
+        {
+            _closed = true;
+            Monitor.PulseAll(_gate);
+        }
+
+        _detach?.Invoke(this);
+
+        if (Thread.CurrentThread != _worker)
+            _worker.Join();
+    }
+
+    private void Run()
+    {
+        while (true)
+        {
+            TickRecord tick;
+
+            lock (_gate)
+            {
+                while (_count == 0 && !_closed)
+                    Monitor.Wait(_gate);
+
+                if (_closed)
+                    return;
+
+                tick = _queue[_head];
+                _head = (_head + 1) % _queue.Length;
+                _count--;
+                Monitor.PulseAll(_gate); // Wake a publisher blocked by the Block policy
+            }
+
+            try
+            {
+                _handler(in tick);
+                Interlocked.Increment(ref _delivered);
+            }
+            catch (Exception ex)
+            {
+                Console.WriteLine($"{Options.Name}: handler error ({ex.Message})");
+            }
+        }
+    }
+}
+```
+
+### A Market Data Hub with Bounded Subscriptions
+
+The hub sits between the platform and the bots. It subscribes to each symbol once and fans ticks out to every bounded subscription. Subscribing and unsubscribing are rare, so the per-symbol subscription list is copied on change and the publish loop reads a plain array.
+
+```csharp
+using System;
+using System.Linq;
+using System.Threading;
+
+public sealed class MarketDataHub
+{
+    private readonly object _gate = new object();
+    private readonly MarketDataSubscription[][] _bySymbol;
+
+    public MarketDataHub(SymbolRegistry registry)
+    {
+        _bySymbol = new MarketDataSubscription[registry.MaxSymbols][];
+        for (int i = 0; i < _bySymbol.Length; i++)
+            _bySymbol[i] = Array.Empty<MarketDataSubscription>();
+    }
+
+    public MarketDataSubscription Subscribe(int symbolId, TickHandler<TickRecord> handler, SubscriptionOptions options)
+    {
+        var subscription = new MarketDataSubscription(symbolId, handler, options, Remove);
+        // Raised on the feed thread: only drop it from the fan-out list. The subscription is already
+        // closed and its worker exits by itself, so there is nothing to join.
+        subscription.Disconnected += Remove;
+
+        lock (_gate)
+        {
+            Volatile.Write(ref _bySymbol[symbolId], _bySymbol[symbolId].Append(subscription).ToArray());
+        }
+        return subscription;
+    }
+
+    // Same as disposing the subscription. Not for the feed thread: it waits for the worker to finish.
+    public void Unsubscribe(MarketDataSubscription subscription) => subscription.Dispose();
+
+    private void Remove(MarketDataSubscription subscription)
+    {
+        lock (_gate)
+        {
+            int id = subscription.SymbolId;
+            Volatile.Write(ref _bySymbol[id], _bySymbol[id].Where(s => s != subscription).ToArray());
+        }
+    }
+
+    public void Publish(in TickRecord tick)
+    {
+        MarketDataSubscription[] subscriptions = Volatile.Read(ref _bySymbol[tick.SymbolId]);
+        for (int i = 0; i < subscriptions.Length; i++)
+            subscriptions[i].Offer(in tick);
+    }
+
+    public MarketDataSubscription[] GetSubscriptions(int symbolId) => Volatile.Read(ref _bySymbol[symbolId]);
+}
+```
+
+### Using the Hub in a cBot
+
+The host subscribes to the platform once per symbol and publishes into the hub. Each consumer chooses a capacity and policy that matches what it does, and the host reports queue depth and drop counters once a minute.
+
+```csharp
+using System;
+using cAlgo.API;
+
+namespace cAlgo
+{
+    [Robot(TimeZone = TimeZones.UTC, AccessRights = AccessRights.None)]
+    public class MarketDataHost : Robot
+    {
+        private readonly SymbolRegistry registry = new SymbolRegistry(64);
+        private MarketDataHub hub;
+
+        protected override void OnStart()
+        {
+            hub = new MarketDataHub(registry);
+            int id = registry.Intern(SymbolName);
+
+            Symbols.SubscribeMarketData(Symbol, args =>
+                hub.Publish(new TickRecord { SymbolId = id, Bid = args.Bid, Ask = args.Ask, TimestampNanos = NanoTime.UtcNow }));
+
+            // A scanner that only needs the latest price
+            hub.Subscribe(id, OnScannerTick, new SubscriptionOptions { Name = "scanner", Capacity = 16, Policy = BackpressurePolicy.ConflateLatest });
+
+            // A strategy that wants a recent, continuous stream
+            hub.Subscribe(id, OnStrategyTick, new SubscriptionOptions { Name = "strategy", Capacity = 4096, Policy = BackpressurePolicy.DropOldest });
+
+            // An experimental bot that must never hurt anyone else
+            var experiment = hub.Subscribe(id, OnExperimentTick, new SubscriptionOptions { Name = "experiment", Capacity = 1024, Policy = BackpressurePolicy.Disconnect });
+            experiment.Disconnected += s => Print("{0} disconnected after falling {1} ticks behind", s.Options.Name, s.Options.Capacity);
+
+            Timer.Start(TimeSpan.FromMinutes(1));
+        }
+
+        protected override void OnTimer()
+        {
+            foreach (var subscription in hub.GetSubscriptions(registry.Intern(SymbolName)))
+            {
+                Print("{0}: depth {1} (max {2}), delivered {3}, dropped {4}, conflated {5}",
+                    subscription.Options.Name, subscription.QueueDepth, subscription.MaxQueueDepth,
+                    subscription.Delivered, subscription.Dropped, subscription.Conflated);
+            }
+        }
+
+        private void OnScannerTick(in TickRecord tick) { /* ... */ }
+        private void OnStrategyTick(in TickRecord tick) { /* ... */ }
+        private void OnExperimentTick(in TickRecord tick) { /* ... */ }
+    }
+}
+```
+
+### Choosing Capacity and Policy
+
+* **Size for the spike, not the average:** capacity is how many ticks a subscriber may fall behind before the policy kicks in. A few seconds of peak tick rate is a good start.
+* **Memory is bounded by design:** each subscription holds at most `Capacity × 32` bytes of ticks. 1,000 subscriptions of 4,096 ticks use about 128 MB in the worst case, and never more.
+* **Watch the counters:** a non-zero `Dropped` or `Conflated` count, or a `MaxQueueDepth` near `Capacity`, tells you which bot is too slow before it becomes a problem.
+* **Keep `Disconnected` handlers short:** the event is raised on the feed thread. Log or schedule a resubscribe there, but do not call `Unsubscribe` or `Dispose`, which wait for the subscription's worker and would stall the feed.
+* **Avoid `Block` on a shared feed:** a blocked publisher delays every other subscriber of that symbol. If a consumer truly needs every tick, give it its own feed or use the tick journal.
+
+By giving each subscription a bounded queue, an explicit policy for when it fills up, and counters for depth and drops, a runaway bot can only hurt itself, and the host's memory stays bounded even during the busiest news spikes.
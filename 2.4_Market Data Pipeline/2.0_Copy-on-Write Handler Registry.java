@@ -0,0 +1,249 @@
+The event handling notes show two ways of subscribing to `MarketData.PriceChanged`: a named method that must be removed again with `marketData.PriceChanged -= OnPriceChanged` in `OnStop`, and a lambda (`PriceChanged += (newPrice) => ...`) that cannot be removed at all, because there is no reference to pass to `-=`. Any handler that is not removed keeps the stopped bot reachable from the publisher, so the bot is never garbage collected and its handler keeps burning CPU on every tick. A **handler registry** that ties every subscription to the bot's lifecycle avoids both problems.
+
+**How the Registry Works:**
+
+* Handlers are stored in an immutable array. Subscribing or unsubscribing builds a new array and swaps it in with `Interlocked.CompareExchange` (copy-on-write).
+* Dispatch reads the current array once and loops over it. It takes no lock and allocates nothing, and a subscribe or unsubscribe that happens during dispatch simply takes effect on the next tick.
+* `Subscribe` returns an `IDisposable` token. Disposing the token removes the handler, which works for lambdas too.
+* Tokens are collected in a `SubscriptionScope` that belongs to the bot. Disposing the scope in `OnStop` removes every handler the bot registered, so nothing has to be remembered by hand.
+
+Copy-on-write is the right trade-off here because handlers are added and removed a few times per bot lifetime, while dispatch happens on every tick.
+
+**Code Sample (Copy-on-Write Handler Registry):**
+
+```csharp
+using System;
+using System.Threading;
+
+public sealed class HandlerRegistry<TArg>
+{
+    private sealed class Entry : IDisposable
+    {
+        private HandlerRegistry<TArg> _owner;
+
+        public Entry(HandlerRegistry<TArg> owner, Action<TArg> handler)
+        {
+            _owner = owner;
+            Handler = handler;
+        }
+
+        public Action<TArg> Handler { get; }
+
+        public void Dispose()
+        {
+            // Safe to call more than once; only the first call removes the entry
+            Interlocked.Exchange(ref _owner, null)?.Remove(this);
+        }
+    }
+
+    private Entry[] _entries = Array.Empty<Entry>();
+
+    public int Count => Volatile.Read(ref _entries).Length;
+
+    // Called for every handler that throws; the remaining handlers still run
+    public Action<Exception> OnError { get; set; }
+
+    public IDisposable Subscribe(Action<TArg> handler)
+    {
+        var entry = new Entry(this, handler ?? throw new ArgumentNullException(nameof(handler)));
+
+        while (true)
+        {
+            Entry[] current = Volatile.Read(ref _entries);
+            var updated = new Entry[current.Length + 1];
+            Array.Copy(current, updated, current.Length);
+            updated[current.Length] = entry;
+
+            if (Interlocked.CompareExchange(ref _entries, updated, current) == current)
+                return entry;
+        }
+    }
+
+    public void Invoke(TArg arg)
+    {
+        Entry[] snapshot = Volatile.Read(ref _entries);
+
+        for (int i = 0; i < snapshot.Length; i++)
+        {
+            try
+            {
+                snapshot[i].Handler(arg);
+            }
+            catch (Exception ex)
+            {
+                OnError?.Invoke(ex);
+            }
+        }
+    }
+
+    private void Remove(Entry entry)
+    {
+        while (true)
+        {
+            Entry[] current = Volatile.Read(ref _entries);
+            int index = Array.IndexOf(current, entry);
+            if (index < 0)
+                return;
+
+            Entry[] updated;
+            if (current.Length == 1)
+            {
+                updated = Array.Empty<Entry>();
+            }
+            else
+            {
+                updated = new Entry[current.Length - 1];
+                Array.Copy(current, 0, updated, 0, index);
+                Array.Copy(current, index + 1, updated, index, current.Length - index - 1);
+            }
+
+            if (Interlocked.CompareExchange(ref _entries, updated, current) == current)
+                return;
+        }
+    }
+}
+```
+
+**Code Sample (Subscription Scope):**
+
+The scope collects tokens and disposes them all at once. Anything added after the scope was disposed is disposed immediately, so a late subscription from a stopping bot cannot leak.
+
+```csharp
+using System;
+using System.Collections.Generic;
+
+public sealed class SubscriptionScope : IDisposable
+{
+    private readonly object _gate = new object();
+    private readonly List<IDisposable> _subscriptions = new List<IDisposable>();
+    private bool _disposed;
+
+    public int Count
+    {
+        get { lock (_gate) return _subscriptions.Count; }
+    }
+
+    public void Add(IDisposable subscription)
+    {
+        lock (_gate)
+        {
+            if (!_disposed)
+            {
+                _subscriptions.Add(subscription);
+                return;
+            }
+        }
+
+        subscription.Dispose();
+    }
+
+    public void Dispose()
+    {
+        IDisposable[] toDispose;
+        lock (_gate)
+        {
+            if (_disposed)
+                return;
+
+            _disposed = true;
+            toDispose = _subscriptions.ToArray();
+            _subscriptions.Clear();
+        }
+
+        // Dispose in reverse order of subscription
+        for (int i = toDispose.Length - 1; i >= 0; i--)
+            toDispose[i].Dispose();
+    }
+}
+
+public static class SubscriptionScopeExtensions
+{
+    public static IDisposable DisposeWith(this IDisposable subscription, SubscriptionScope scope)
+    {
+        scope.Add(subscription);
+        return subscription;
+    }
+}
+```
+
+**Replacing the PriceChanged Event:**
+
+`MarketData` exposes the registry instead of an `event`. Publishing is still one line.
+
+```csharp
+public class MarketData
+{
+    public HandlerRegistry<double> PriceChanged { get; } = new HandlerRegistry<double>();
+
+    public void UpdatePrice(double newPrice)
+    {
+        PriceChanged.Invoke(newPrice);
+    }
+}
+```
+
+**Tying Subscriptions to the Bot Lifecycle:**
+
+A small base class owns the scope and disposes it in `OnStop`. Bots derive from it instead of `Robot`, subscribe in `OnStart`, and never write an unsubscribe line. A derived bot that overrides `OnStop` must call `base.OnStop()`.
+
+```csharp
+using cAlgo.API;
+
+public abstract class LifecycleRobot : Robot
+{
+    protected SubscriptionScope Subscriptions { get; private set; }
+
+    protected override void OnStart()
+    {
+        Subscriptions = new SubscriptionScope();
+    }
+
+    protected override void OnStop()
+    {
+        // Removes every handler this bot registered, including lambdas
+        Subscriptions.Dispose();
+    }
+}
+
+public class MyTradingBot : LifecycleRobot
+{
+    private MarketData marketData;
+
+    protected override void OnStart()
+    {
+        base.OnStart();
+
+        marketData = new MarketData();
+
+        // Named handler: no matching -= needed in OnStop
+        marketData.PriceChanged.Subscribe(OnPriceChanged).DisposeWith(Subscriptions);
+
+        // Lambda handler: removable because the token is kept by the scope
+        marketData.PriceChanged.Subscribe(newPrice => Print("Price changed to: {0}", newPrice)).DisposeWith(Subscriptions);
+    }
+
+    private void OnPriceChanged(double newPrice)
+    {
+        if (newPrice > 1000)
+        {
+            ExecuteMarketOrder(TradeType.Buy, SymbolName, 1000);
+        }
+    }
+}
+```
+
+The same scope can hold any other `IDisposable` the bot creates, such as a `MarketDataSubscription` from the backpressure hub or a `TickJournalWriter`, so all of them are released together when the bot stops. Disposing a `MarketDataSubscription` also removes it from its hub, so the hub stops publishing to it:
+
+```csharp
+hub.Subscribe(id, OnStrategyTick, new SubscriptionOptions { Name = "strategy", Capacity = 4096, Policy = BackpressurePolicy.DropOldest })
+   .DisposeWith(Subscriptions);
+```
+
+**Things to Keep in Mind:**
+
+* **Dispatch sees a snapshot:** a handler removed during `Invoke` may still be called once for the tick that is being dispatched. Handlers should tolerate one call after their bot has stopped.
+* **Subscribe rarely:** each subscribe or unsubscribe copies the array. That is negligible for tens of handlers changed a few times a day, but do not subscribe per tick.
+* **Errors are isolated:** a handler that throws no longer stops the handlers after it. Set `OnError` to log failures instead of losing them.
+* **Forgetting `base.OnStop()`** in a derived bot brings the leak back; make it part of code review for every bot that derives from `LifecycleRobot`.
+
+By storing handlers in an immutable array snapshot and tying every subscription token to the bot's lifetime, dispatch stays lock-free and allocation-free, lambda subscriptions become removable, and stopped bots no longer stay in memory or keep running on every tick.
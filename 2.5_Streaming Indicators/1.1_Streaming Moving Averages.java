@@ -0,0 +1,386 @@
+In the context of developing for cTrader using .NET 6 and C# 10, the `MovingAverageIndicator` samples compute the average with `CalculateMovingAverage(double[] prices, int period)` or `CalculateMovingAverageAsync`, which sum the whole window every time they are called. That is O(period) work per tick per instance: an SMA(200) adds 200 numbers on every tick, and with hundreds of moving averages across symbols this quickly becomes the largest CPU cost in the bot. A **streaming** moving average keeps its state between calls and updates in O(1) when a new price arrives.
+
+### How Streaming Averages Work
+
+* **SMA:** keep the last `period` prices in a fixed-size circular buffer and a running sum. A new price adds itself to the sum and subtracts the price that falls out of the window.
+* **EMA:** keep only the previous average; `ema = ema + alpha * (price - ema)` with `alpha = 2 / (period + 1)`. The first value is seeded with the SMA of the first `period` prices, which matches how cTrader's EMA starts.
+* **WMA:** keep the plain sum `S` and the weighted sum `W` (weights 1..period, newest heaviest). When price `x` enters a full window, `W = W - S + period * x` and `S = S - oldest + x`, so no loop over the window is needed.
+
+### Drift-Correcting Compensated Sums
+
+A running sum that adds and subtracts millions of prices slowly accumulates floating-point rounding error, so after a few days an O(1) SMA can differ from a freshly computed one in the last digits. Neumaier's compensated summation (an improved Kahan summation) keeps a second variable with the rounding error of every addition and adds it back when the sum is read. As an extra safeguard, the SMA recomputes its sum exactly from the window every `ResyncInterval` updates, which costs O(period) once in a long while.
+
+```csharp
+using System;
+
+public struct CompensatedSum
+{
+    private double _sum;
+    private double _compensation;
+
+    public double Value => _sum + _compensation;
+
+    public void Add(double value)
+    {
+        double t = _sum + value;
+
+        // Recover the low-order bits lost by the addition
+        if (Math.Abs(_sum) >= Math.Abs(value))
+            _compensation += (_sum - t) + value;
+        else
+            _compensation += (value - t) + _sum;
+
+        _sum = t;
+    }
+
+    public void Reset()
+    {
+        _sum = 0;
+        _compensation = 0;
+    }
+}
+```
+
+### The Streaming Moving Average Base Class
+
+All three averages share the same surface: `Update` adds a new closed price and returns the current value, `Preview` returns what the value would be for a price without committing it (useful for the forming bar), and `IsReady` tells whether the warm-up period is over.
+
+```csharp
+using System;
+
+public enum MovingAverageKind
+{
+    Simple,
+    Exponential,
+    Weighted
+}
+
+public abstract class StreamingMovingAverage
+{
+    protected StreamingMovingAverage(int period)
+    {
+        if (period <= 0)
+            throw new ArgumentOutOfRangeException(nameof(period), "Period must be positive.");
+
+        Period = period;
+    }
+
+    public int Period { get; }
+    public long Count { get; protected set; }
+    public bool IsReady => Count >= Period;
+    public double Value { get; protected set; } = double.NaN;
+
+    public abstract double Update(double price);
+    public abstract double Preview(double price);
+    public abstract void Reset();
+
+    public static StreamingMovingAverage Create(MovingAverageKind kind, int period) => kind switch
+    {
+        MovingAverageKind.Simple => new StreamingSma(period),
+        MovingAverageKind.Exponential => new StreamingEma(period),
+        MovingAverageKind.Weighted => new StreamingWma(period),
+        _ => throw new ArgumentOutOfRangeException(nameof(kind))
+    };
+}
+```
+
+### Simple Moving Average
+
+```csharp
+public sealed class StreamingSma : StreamingMovingAverage
+{
+    public const int ResyncInterval = 1 << 20;
+
+    private readonly double[] _window;
+    private CompensatedSum _sum;
+    private int _next;
+    private int _sinceResync;
+
+    public StreamingSma(int period) : base(period)
+    {
+        _window = new double[period];
+    }
+
+    public override double Update(double price)
+    {
+        if (IsReady)
+            _sum.Add(-_window[_next]);
+
+        _window[_next] = price;
+        _sum.Add(price);
+        _next = _next + 1 == Period ? 0 : _next + 1;
+        Count++;
+
+        if (++_sinceResync == ResyncInterval)
+            Resync();
+
+        Value = IsReady ? _sum.Value / Period : double.NaN;
+        return Value;
+    }
+
+    public override double Preview(double price)
+    {
+        if (Count < Period - 1)
+            return double.NaN;
+
+        double outgoing = IsReady ? _window[_next] : 0;
+        return (_sum.Value - outgoing + price) / Period;
+    }
+
+    public override void Reset()
+    {
+        Array.Clear(_window, 0, _window.Length);
+        _sum.Reset();
+        _next = 0;
+        _sinceResync = 0;
+        Count = 0;
+        Value = double.NaN;
+    }
+
+    // Recomputes the sum exactly from the window to remove any residual drift
+    private void Resync()
+    {
+        _sum.Reset();
+        int filled = IsReady ? Period : (int)Count;
+        for (int i = 0; i < filled; i++)
+            _sum.Add(_window[i]);
+        _sinceResync = 0;
+    }
+}
+```
+
+### Exponential Moving Average
+
+```csharp
+public sealed class StreamingEma : StreamingMovingAverage
+{
+    private readonly double _alpha;
+    private CompensatedSum _seed;
+
+    public StreamingEma(int period) : base(period)
+    {
+        _alpha = 2.0 / (period + 1);
+    }
+
+    public double Alpha => _alpha;
+
+    public override double Update(double price)
+    {
+        Count++;
+
+        if (Count < Period)
+        {
+            _seed.Add(price);
+            return Value;
+        }
+
+        if (Count == Period)
+        {
+            // Seed with the SMA of the first Period prices
+            _seed.Add(price);
+            Value = _seed.Value / Period;
+            return Value;
+        }
+
+        Value += _alpha * (price - Value);
+        return Value;
+    }
+
+    public override double Preview(double price)
+    {
+        if (Count < Period - 1)
+            return double.NaN;
+
+        if (Count == Period - 1)
+            return (_seed.Value + price) / Period;
+
+        return Value + _alpha * (price - Value);
+    }
+
+    public override void Reset()
+    {
+        _seed.Reset();
+        Count = 0;
+        Value = double.NaN;
+    }
+}
+```
+
+### Weighted Moving Average
+
+```csharp
+public sealed class StreamingWma : StreamingMovingAverage
+{
+    private readonly double[] _window;
+    private readonly double _divisor;
+    private CompensatedSum _sum;
+    private CompensatedSum _weightedSum;
+    private int _next;
+
+    public StreamingWma(int period) : base(period)
+    {
+        _window = new double[period];
+        _divisor = period * (period + 1) / 2.0;
+    }
+
+    public override double Update(double price)
+    {
+        if (IsReady)
+        {
+            // Every weight drops by one, the oldest price leaves and the new one enters with weight Period
+            _weightedSum.Add(-_sum.Value);
+            _weightedSum.Add(Period * price);
+            _sum.Add(-_window[_next]);
+        }
+        else
+        {
+            _weightedSum.Add((Count + 1) * price);
+        }
+
+        _sum.Add(price);
+        _window[_next] = price;
+        _next = _next + 1 == Period ? 0 : _next + 1;
+        Count++;
+
+        Value = IsReady ? _weightedSum.Value / _divisor : double.NaN;
+        return Value;
+    }
+
+    public override double Preview(double price)
+    {
+        if (Count < Period - 1)
+            return double.NaN;
+
+        if (!IsReady)
+            return (_weightedSum.Value + Period * price) / _divisor;
+
+        return (_weightedSum.Value - _sum.Value + Period * price) / _divisor;
+    }
+
+    public override void Reset()
+    {
+        Array.Clear(_window, 0, _window.Length);
+        _sum.Reset();
+        _weightedSum.Reset();
+        _next = 0;
+        Count = 0;
+        Value = double.NaN;
+    }
+}
+```
+
+During the WMA warm-up the weights are `1..Count`, so when the window first fills the weighted sum already holds exactly the weights `1..Period`.
+
+### Using the Engine in MovingAverageIndicator
+
+cTrader calls `Calculate(int index)` once for every historical bar and then repeatedly for the last bar while it is forming. The indicator only calls `Update` when a new bar index arrives, with the close of the bar that just finished, and uses `Preview` for the forming bar. Each call is O(1) whatever the period.
+
+```csharp
+using cAlgo.API;
+
+namespace MyTradingBot.Indicators
+{
+    [Indicator(IsOverlay = true, AccessRights = AccessRights.None)]
+    public class MovingAverageIndicator : Indicator
+    {
+        [Parameter("Period", DefaultValue = 14, MinValue = 1)]
+        public int Period { get; set; }
+
+        [Parameter("Type", DefaultValue = MovingAverageKind.Simple)]
+        public MovingAverageKind Kind { get; set; }
+
+        [Output("Main")]
+        public IndicatorDataSeries Result { get; set; }
+
+        private StreamingMovingAverage average;
+        private int lastIndex = -1;
+
+        protected override void Initialize()
+        {
+            average = StreamingMovingAverage.Create(Kind, Period);
+        }
+
+        public override void Calculate(int index)
+        {
+            // Commit every bar that closed since the last call
+            for (int closed = lastIndex; closed >= 0 && closed < index; closed++)
+            {
+                Result[closed] = average.Update(Bars.ClosePrices[closed]);
+            }
+
+            lastIndex = index;
+
+            // The forming bar is previewed, not committed
+            Result[index] = average.Preview(Bars.ClosePrices[index]);
+        }
+
+        public double CalculateMovingAverage(double[] prices, int period)
+        {
+            // Kept for callers that still pass a whole array: sums only the last `period` prices,
+            // so it is O(period) per call and allocates nothing; prefer the streaming engine
+            if (prices.Length < period)
+                return double.NaN;
+
+            var sum = new CompensatedSum();
+            for (int i = prices.Length - period; i < prices.Length; i++)
+                sum.Add(prices[i]);
+            return sum.Value / period;
+        }
+    }
+}
+```
+
+`lastIndex` starts at `-1`, so the first call only previews bar 0; from the second call on, each bar is committed exactly once when the next bar opens.
+
+### Streaming Averages in a cBot
+
+In a bot, create one engine per symbol and period in `OnStart` and feed it closed bars in `OnBar`. Hundreds of these cost a few array writes per bar each.
+
+```csharp
+using cAlgo.API;
+
+namespace cAlgo
+{
+    [Robot(TimeZone = TimeZones.UTC, AccessRights = AccessRights.None)]
+    public class CrossoverBot : Robot
+    {
+        private StreamingMovingAverage fast;
+        private StreamingMovingAverage slow;
+
+        protected override void OnStart()
+        {
+            fast = StreamingMovingAverage.Create(MovingAverageKind.Exponential, 20);
+            slow = StreamingMovingAverage.Create(MovingAverageKind.Simple, 200);
+
+            // Warm up from history once, then stay O(1)
+            for (int i = 0; i < Bars.Count - 1; i++)
+            {
+                fast.Update(Bars.ClosePrices[i]);
+                slow.Update(Bars.ClosePrices[i]);
+            }
+        }
+
+        protected override void OnBar()
+        {
+            double previousFast = fast.Value;
+            double previousSlow = slow.Value;
+
+            double close = Bars.ClosePrices.Last(1);
+            fast.Update(close);
+            slow.Update(close);
+
+            if (slow.IsReady && previousFast <= previousSlow && fast.Value > slow.Value)
+                ExecuteMarketOrder(TradeType.Buy, SymbolName, 1000, "EMA20 x SMA200");
+        }
+    }
+}
+```
+
+### Tips
+
+* **One engine per stream:** an engine holds the state of one price series. Never share an instance between two symbols or timeframes.
+* **Feed closed prices only:** call `Update` once per closed bar (or per tick for tick-based averages) and use `Preview` for anything still changing.
+* **Fixed memory:** SMA and WMA hold one `double[period]`; EMA holds two numbers. Nothing is allocated after construction.
+* **Check `IsReady`** before trading on a value; during warm-up `Value` is `NaN`.
+
+By replacing window re-summing with streaming SMA, EMA and WMA engines, every moving average update becomes O(1) with fixed memory, compensated sums keep the values accurate over long runs, and hundreds of moving averages across symbols cost almost nothing per tick.
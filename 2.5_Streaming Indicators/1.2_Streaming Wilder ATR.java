@@ -0,0 +1,211 @@
+The error handling notes compute the Average True Range with `GetAverageTrueRange(int period)`, which walks `Symbol.HighPrices`, `Symbol.LowPrices` and `Symbol.ClosePrices` over the whole period on every call. It also relies on catching `IndexOutOfRangeException` when `i - 1` reaches before the first bar, which turns a normal condition (not enough history yet) into an exception. When ATR drives volatility-based position sizing on every tick, both the loop and the exception get expensive. A **streaming ATR** with Wilder smoothing updates in O(1) per closed bar and reports its warm-up state explicitly.
+
+**How Wilder's ATR Works:**
+
+* **True Range (TR)** of a bar is the largest of:
+    * `high - low`
+    * `|high - previous close|`
+    * `|low - previous close|`
+* The very first bar has no previous close, so its TR is simply `high - low`.
+* The first ATR value is the plain average of the first `period` true ranges.
+* After that, each bar uses Wilder's smoothing: `atr = (atr * (period - 1) + tr) / period`. This is an exponential average with `alpha = 1 / period`.
+
+The indicator only needs the previous close, the current ATR and, during warm-up, a running sum of true ranges. No arrays are kept and nothing is allocated per bar.
+
+**Code Sample (Warm-Up State):**
+
+Instead of throwing, the indicator says where it is in its life cycle:
+
+```csharp
+public enum IndicatorState
+{
+    Empty,      // No bars seen yet
+    WarmingUp,  // Fewer than Period bars; Value is not valid
+    Ready       // Value is valid
+}
+```
+
+**Code Sample (Streaming ATR):**
+
+```csharp
+using System;
+
+public sealed class StreamingAtr
+{
+    private double _previousClose = double.NaN;
+    private double _trSum;
+
+    public StreamingAtr(int period)
+    {
+        if (period <= 0)
+            throw new ArgumentOutOfRangeException(nameof(period), "Period must be positive.");
+
+        Period = period;
+    }
+
+    public int Period { get; }
+    public long Count { get; private set; }
+    public double Value { get; private set; } = double.NaN;
+    public double LastTrueRange { get; private set; } = double.NaN;
+
+    public IndicatorState State =>
+        Count == 0 ? IndicatorState.Empty :
+        Count < Period ? IndicatorState.WarmingUp :
+        IndicatorState.Ready;
+
+    public bool IsReady => Count >= Period;
+
+    // Call once per closed bar
+    public double Update(double high, double low, double close)
+    {
+        double tr = TrueRange(high, low, _previousClose);
+        LastTrueRange = tr;
+        _previousClose = close;
+        Count++;
+
+        if (Count < Period)
+        {
+            _trSum += tr;
+        }
+        else if (Count == Period)
+        {
+            _trSum += tr;
+            Value = _trSum / Period;
+        }
+        else
+        {
+            Value = (Value * (Period - 1) + tr) / Period;
+        }
+
+        return Value;
+    }
+
+    // ATR including the forming bar, without committing it
+    public double Preview(double high, double low)
+    {
+        if (Count < Period - 1)
+            return double.NaN;
+
+        double tr = TrueRange(high, low, _previousClose);
+        return Count == Period - 1 ? (_trSum + tr) / Period : (Value * (Period - 1) + tr) / Period;
+    }
+
+    public bool TryGetValue(out double atr)
+    {
+        atr = Value;
+        return IsReady;
+    }
+
+    public void Reset()
+    {
+        _previousClose = double.NaN;
+        _trSum = 0;
+        Count = 0;
+        Value = double.NaN;
+        LastTrueRange = double.NaN;
+    }
+
+    private static double TrueRange(double high, double low, double previousClose)
+    {
+        double range = high - low;
+        if (double.IsNaN(previousClose))
+            return range;
+
+        return Math.Max(range, Math.Max(Math.Abs(high - previousClose), Math.Abs(low - previousClose)));
+    }
+}
+```
+
+**Replacing GetAverageTrueRange:**
+
+The old method re-read the whole period and used an exception to detect missing history. The streaming version is fed once per closed bar and answers in constant time:
+
+```csharp
+private StreamingAtr atr;
+
+protected override void OnStart()
+{
+    atr = new StreamingAtr(14);
+
+    // Warm up from the history that is already loaded; no index can go out of range
+    for (int i = 0; i < Bars.Count - 1; i++)
+    {
+        atr.Update(Bars.HighPrices[i], Bars.LowPrices[i], Bars.ClosePrices[i]);
+    }
+}
+
+protected override void OnBar()
+{
+    var closed = Bars.Last(1);
+    atr.Update(closed.High, closed.Low, closed.Close);
+}
+
+public double GetAverageTrueRange()
+{
+    if (!atr.TryGetValue(out double value))
+    {
+        Print("ATR warming up: {0} of {1} bars", atr.Count, atr.Period);
+        return 0; // Same fallback as before, without the exception
+    }
+
+    return value;
+}
+```
+
+**Code Sample (Volatility-Based Position Sizing on Every Tick):**
+
+Because the ATR value is kept up to date in `OnBar`, sizing a trade on a tick is a few multiplications. The stop is placed two ATRs away, and the volume is chosen so that hitting the stop loses a fixed share of equity.
+
+```csharp
+using System;
+using cAlgo.API;
+
+namespace cAlgo
+{
+    [Robot(TimeZone = TimeZones.UTC, AccessRights = AccessRights.None)]
+    public class VolatilitySizedBot : Robot
+    {
+        [Parameter("ATR Period", DefaultValue = 14)]
+        public int AtrPeriod { get; set; }
+
+        [Parameter("Risk %", DefaultValue = 0.5)]
+        public double RiskPercent { get; set; }
+
+        private StreamingAtr atr;
+
+        protected override void OnStart()
+        {
+            atr = new StreamingAtr(AtrPeriod);
+            for (int i = 0; i < Bars.Count - 1; i++)
+                atr.Update(Bars.HighPrices[i], Bars.LowPrices[i], Bars.ClosePrices[i]);
+        }
+
+        protected override void OnBar()
+        {
+            var closed = Bars.Last(1);
+            atr.Update(closed.High, closed.Low, closed.Close);
+        }
+
+        protected override void OnTick()
+        {
+            if (atr.State != IndicatorState.Ready || Positions.Find("ATR", SymbolName) != null)
+                return;
+
+            double stopPips = 2 * atr.Value / Symbol.PipSize;
+            double riskAmount = Account.Equity * RiskPercent / 100;
+            double volume = Symbol.NormalizeVolumeInUnits(riskAmount / (stopPips * Symbol.PipValue), RoundingMode.Down);
+
+            if (volume >= Symbol.VolumeInUnitsMin && Symbol.Ask > Bars.HighPrices.Last(1))
+                ExecuteMarketOrder(TradeType.Buy, SymbolName, volume, "ATR", stopPips, null);
+        }
+    }
+}
+```
+
+**Tips:**
+
+* **Warm-up is a state, not an error:** check `State` or `TryGetValue` before using the value. Exceptions should be kept for things that really are unexpected, such as a communication failure.
+* **Closed bars only:** call `Update` from `OnBar` with `Bars.Last(1)`. Use `Preview(high, low)` if you need an ATR that includes the forming bar.
+* **Match the platform:** Wilder smoothing is what cTrader's built-in `AverageTrueRange` uses with `MovingAverageType.WilderSmoothing`, so values line up once both have seen the same history.
+
+By replacing the per-call loop with a streaming Wilder ATR, each bar costs O(1) work, warm-up is reported as an explicit state instead of an `IndexOutOfRangeException`, and volatility-based position sizing stays cheap on every tick.
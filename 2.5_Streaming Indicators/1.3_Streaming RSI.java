@@ -0,0 +1,239 @@
+In the OOP notes, `RSIStrategy.GetSignal()` reads the indicator with `GetCustomIndicator("RSI").Last(0)`. Every call goes through a string-named lookup, and the value it returns is computed by an indicator that re-processes its series on its own schedule. When a strategy checks RSI on every tick, or several strategies need RSI(7), RSI(14) and RSI(21) of the same symbol, it is cheaper to compute RSI natively and incrementally, with typed access and shared state.
+
+### How Wilder's RSI Works
+
+* For each new close, the **change** is `close - previousClose`. A positive change is a gain, a negative change is a loss (stored as a positive number).
+* The first average gain and average loss are the plain averages of the first `period` gains and losses.
+* After that, Wilder smoothing is used: `avgGain = (avgGain * (period - 1) + gain) / period`, and the same for losses.
+* `RS = avgGain / avgLoss` and `RSI = 100 - 100 / (1 + RS)`. If there were no losses at all, RSI is 100. If prices did not move at all (no gains and no losses), RS is undefined and the bank reports 50, the neutral value.
+
+So each period only needs two running averages, and every period over the same series uses the **same** gain and loss for a given close. A bank of RSIs can compute the change once and update every period from it.
+
+### The RSI Bank
+
+The bank holds the shared state (the previous close) and one small slot per period in parallel primitive arrays. `Track(period)` returns a typed `Rsi` handle; reading `rsi.Value` is two array loads, with no string lookup.
+
+```csharp
+using System;
+
+public sealed class RsiBank
+{
+    private int[] _periods = Array.Empty<int>();
+    private double[] _avgGain = Array.Empty<double>();
+    private double[] _avgLoss = Array.Empty<double>();
+    private long[] _count = Array.Empty<long>();
+    private double[] _value = Array.Empty<double>();
+    private double _previousClose = double.NaN;
+
+    public int PeriodCount => _periods.Length;
+
+    // Returns the existing handle if the period is already tracked
+    public Rsi Track(int period)
+    {
+        if (period <= 0)
+            throw new ArgumentOutOfRangeException(nameof(period), "Period must be positive.");
+
+        int index = Array.IndexOf(_periods, period);
+        if (index >= 0)
+            return new Rsi(this, index);
+
+        index = _periods.Length;
+        Array.Resize(ref _periods, index + 1);
+        Array.Resize(ref _avgGain, index + 1);
+        Array.Resize(ref _avgLoss, index + 1);
+        Array.Resize(ref _count, index + 1);
+        Array.Resize(ref _value, index + 1);
+
+        _periods[index] = period;
+        _value[index] = double.NaN;
+        return new Rsi(this, index);
+    }
+
+    // Call once per closed bar; updates every tracked period in one pass
+    public void Update(double close)
+    {
+        if (double.IsNaN(_previousClose))
+        {
+            _previousClose = close;
+            return;
+        }
+
+        double change = close - _previousClose;
+        double gain = change > 0 ? change : 0;
+        double loss = change < 0 ? -change : 0;
+        _previousClose = close;
+
+        for (int i = 0; i < _periods.Length; i++)
+        {
+            int period = _periods[i];
+            long count = ++_count[i];
+
+            if (count <= period)
+            {
+                // Warm-up: plain average of the first Period changes
+                _avgGain[i] += gain / period;
+                _avgLoss[i] += loss / period;
+                if (count < period)
+                    continue;
+            }
+            else
+            {
+                _avgGain[i] = (_avgGain[i] * (period - 1) + gain) / period;
+                _avgLoss[i] = (_avgLoss[i] * (period - 1) + loss) / period;
+            }
+
+            _value[i] = ToRsi(_avgGain[i], _avgLoss[i]);
+        }
+    }
+
+    internal int PeriodAt(int index) => _periods[index];
+    internal double ValueAt(int index) => _value[index];
+    internal bool IsReadyAt(int index) => _count[index] >= _periods[index];
+
+    // RSI including the forming bar's price, without committing it.
+    // Like the MA and ATR previews, it has a value one bar before the RSI is ready.
+    internal double PreviewAt(int index, double price)
+    {
+        int period = _periods[index];
+        long count = _count[index];
+        if (double.IsNaN(_previousClose) || count < period - 1)
+            return double.NaN;
+
+        double change = price - _previousClose;
+        double gain = Math.Max(change, 0);
+        double loss = Math.Max(-change, 0);
+
+        // The forming bar completes the warm-up average
+        if (count == period - 1)
+            return ToRsi(_avgGain[index] + gain / period, _avgLoss[index] + loss / period);
+
+        double avgGain = (_avgGain[index] * (period - 1) + gain) / period;
+        double avgLoss = (_avgLoss[index] * (period - 1) + loss) / period;
+        return ToRsi(avgGain, avgLoss);
+    }
+
+    private static double ToRsi(double avgGain, double avgLoss)
+    {
+        // No losses: 100. A completely flat market has no gains either, so RS is 0 / 0: report neutral 50
+        if (avgLoss == 0)
+            return avgGain == 0 ? 50 : 100;
+
+        return 100 - 100 / (1 + avgGain / avgLoss);
+    }
+}
+
+public readonly struct Rsi
+{
+    private readonly RsiBank _bank;
+    private readonly int _index;
+
+    internal Rsi(RsiBank bank, int index)
+    {
+        _bank = bank;
+        _index = index;
+    }
+
+    public int Period => _bank.PeriodAt(_index);
+    public double Value => _bank.ValueAt(_index);
+    public bool IsReady => _bank.IsReadyAt(_index);
+    public double Preview(double price) => _bank.PreviewAt(_index, price);
+}
+```
+
+`Rsi` is a small struct, so handing handles out costs nothing. A period added with `Track` after updates have started begins its own warm-up from the next close.
+
+### Rewriting RSIStrategy
+
+The strategy keeps one bank per symbol and timeframe, feeds it closed bars, and reads the value through the typed handle:
+
+```csharp
+public class RSIStrategy : TradingStrategyBase
+{
+  private readonly RsiBank rsiBank = new RsiBank();
+  private Rsi rsi;
+
+  protected override void OnStart()
+  {
+    rsi = rsiBank.Track(14);
+
+    // Warm up from history once
+    for (int i = 0; i < Bars.Count - 1; i++)
+    {
+      rsiBank.Update(Bars.ClosePrices[i]);
+    }
+  }
+
+  protected override void OnBar()
+  {
+    rsiBank.Update(Bars.ClosePrices.Last(1));
+  }
+
+  public override string GetSignal()
+  {
+    if (!rsi.IsReady)
+      return "Hold";
+
+    double value = rsi.Value;  // Typed access, no string lookup
+    if (value < 30)
+      return "Buy";
+    if (value > 70)
+      return "Sell";
+    return "Hold";
+  }
+}
+```
+
+### Many Periods over the Same Series
+
+Strategies that look at several RSI lengths share one bank, so each close computes the change once and updates all periods in a single loop over primitive arrays:
+
+```csharp
+using cAlgo.API;
+
+namespace cAlgo
+{
+    [Robot(TimeZone = TimeZones.UTC, AccessRights = AccessRights.None)]
+    public class MultiRsiBot : Robot
+    {
+        private readonly RsiBank rsiBank = new RsiBank();
+        private Rsi fast;
+        private Rsi medium;
+        private Rsi slow;
+
+        protected override void OnStart()
+        {
+            fast = rsiBank.Track(7);
+            medium = rsiBank.Track(14);
+            slow = rsiBank.Track(21);
+
+            for (int i = 0; i < Bars.Count - 1; i++)
+                rsiBank.Update(Bars.ClosePrices[i]);
+        }
+
+        protected override void OnBar()
+        {
+            rsiBank.Update(Bars.ClosePrices.Last(1));
+        }
+
+        protected override void OnTick()
+        {
+            // One position at a time: without this, every tick while oversold would buy again
+            if (!slow.IsReady || Positions.Find("RSI stack", SymbolName) != null)
+                return;
+
+            // All three agree that the market is oversold, including the forming bar
+            if (fast.Preview(Symbol.Bid) < 20 && medium.Value < 30 && slow.Value < 40)
+                ExecuteMarketOrder(TradeType.Buy, SymbolName, 1000, "RSI stack");
+        }
+    }
+}
+```
+
+### Tips
+
+* **One bank per series:** a bank belongs to one symbol and one timeframe, because the previous close is shared by all its periods.
+* **Track in `OnStart`:** adding periods resizes the arrays; do it up front, not on the hot path.
+* **Closed bars vs forming bar:** `Update` commits a closed bar; `Preview(price)` gives the RSI the forming bar would produce if it closed now.
+* **Matching the platform:** cTrader's built-in `RelativeStrengthIndex` also uses Wilder smoothing, so values converge to the same numbers once both have processed enough history.
+
+By computing RSI natively with Wilder smoothing, every close costs O(1) per period, the value is read through a typed handle instead of `GetCustomIndicator("RSI")`, and several periods over the same series share the work of computing gains and losses.
@@ -0,0 +1,396 @@
+In the context of developing for cTrader using .NET 6 and C# 10, the `MyTradingBot` sample in the notes on storing values runs `CalculateIndicators()`, then `GenerateTradingSignals()`, then `ExecuteTrades()` on every market data update, whether or not anything the indicators depend on has changed. And when several strategies run side by side, each one computes its own copy of the same indicators: ten strategies asking for SMA(14) on EURUSD cost ten SMA updates per bar. An **indicator dependency graph** fixes both problems: indicators become nodes in a directed acyclic graph (DAG), identical nodes are shared, and only the nodes downstream of data that actually changed are recomputed.
+
+### How the Graph Works
+
+* **Nodes are keyed** by `(symbol, timeframe, indicator, parameters, input)`. Asking for a node that already exists returns the existing one, so identical requests from different strategies share one computation.
+* **Edges are inputs.** The root of every chain is a bar node for one symbol and timeframe. An SMA of the close reads the bar node; an SMA of an RSI reads the RSI node.
+* **Dirty propagation:** when a bar closes for EURUSD M15, only the nodes reachable from the EURUSD M15 bar node are dirty. They are recomputed once, in topological order (inputs before the nodes that read them). Everything else is left alone.
+* **Nodes are streaming indicators** (the streaming moving averages, ATR and RSI), so each recomputation is O(1).
+
+Nodes are created before any node that reads them, and every node has exactly one input, so a depth-first walk from the bar node already visits nodes in a valid topological order. The walk is cached per bar node and rebuilt only when nodes are added or removed.
+
+### Node Keys
+
+```csharp
+public enum IndicatorType
+{
+    Bars,
+    Sma,
+    Ema,
+    Wma,
+    Rsi,
+    Atr
+}
+
+// InputId is the id of the input node, or -1 for a bar node
+public readonly record struct IndicatorKey(int SymbolId, BarTimeframe Timeframe, IndicatorType Type, int Period, int InputId);
+
+public readonly record struct BarSeriesKey(int SymbolId, BarTimeframe Timeframe);
+```
+
+### Indicator Nodes
+
+Every node exposes its latest `Value`, whether it `IsReady`, and a `Version` that increases each time it is recomputed. Strategies compare versions to know whether anything changed since they last looked.
+
+```csharp
+using System;
+using System.Collections.Generic;
+
+public abstract class IndicatorNode
+{
+    internal readonly List<IndicatorNode> Dependents = new List<IndicatorNode>();
+    internal int RefCount;
+
+    protected IndicatorNode(int id, IndicatorKey key, IndicatorNode input)
+    {
+        Id = id;
+        Key = key;
+        Input = input;
+    }
+
+    public int Id { get; }
+    public IndicatorKey Key { get; }
+    public IndicatorNode Input { get; }
+    public double Value { get; protected set; } = double.NaN;
+    public bool IsReady { get; protected set; }
+    public long Version { get; private set; }
+
+    internal void Recompute(in OhlcBar bar)
+    {
+        Compute(in bar);
+        Version++;
+    }
+
+    protected abstract void Compute(in OhlcBar bar);
+}
+
+public sealed class BarNode : IndicatorNode
+{
+    public BarNode(int id, IndicatorKey key) : base(id, key, null) { }
+
+    public OhlcBar Bar { get; private set; }
+
+    protected override void Compute(in OhlcBar bar)
+    {
+        Bar = bar;
+        Value = bar.Close;
+        IsReady = true;
+    }
+}
+
+public sealed class MovingAverageNode : IndicatorNode
+{
+    private readonly StreamingMovingAverage _average;
+
+    public MovingAverageNode(int id, IndicatorKey key, IndicatorNode input, MovingAverageKind kind)
+        : base(id, key, input)
+    {
+        _average = StreamingMovingAverage.Create(kind, key.Period);
+    }
+
+    protected override void Compute(in OhlcBar bar)
+    {
+        if (!Input.IsReady)
+            return;
+
+        Value = _average.Update(Input.Value);
+        IsReady = _average.IsReady;
+    }
+}
+
+public sealed class RsiNode : IndicatorNode
+{
+    private readonly RsiBank _bank = new RsiBank();
+    private readonly Rsi _rsi;
+
+    public RsiNode(int id, IndicatorKey key, IndicatorNode input) : base(id, key, input)
+    {
+        _rsi = _bank.Track(key.Period);
+    }
+
+    protected override void Compute(in OhlcBar bar)
+    {
+        if (!Input.IsReady)
+            return;
+
+        _bank.Update(Input.Value);
+        Value = _rsi.Value;
+        IsReady = _rsi.IsReady;
+    }
+}
+
+public sealed class AtrNode : IndicatorNode
+{
+    private readonly StreamingAtr _atr;
+
+    public AtrNode(int id, IndicatorKey key, BarNode input) : base(id, key, input)
+    {
+        _atr = new StreamingAtr(key.Period);
+    }
+
+    protected override void Compute(in OhlcBar bar)
+    {
+        Value = _atr.Update(bar.High, bar.Low, bar.Close);
+        IsReady = _atr.IsReady;
+    }
+}
+```
+
+### The Indicator Graph
+
+```csharp
+using System;
+using System.Collections.Generic;
+
+public sealed class IndicatorGraph
+{
+    private readonly Dictionary<IndicatorKey, IndicatorNode> _nodes = new Dictionary<IndicatorKey, IndicatorNode>();
+    private readonly Dictionary<BarSeriesKey, IndicatorNode[]> _schedules = new Dictionary<BarSeriesKey, IndicatorNode[]>();
+    private int _nextId;
+
+    public int NodeCount => _nodes.Count;
+    public long Requests { get; private set; }
+    public long Recomputations { get; private set; }
+
+    // Raised after every node of a series has been recomputed for a closed bar
+    public HandlerRegistry<BarSeriesKey> Recomputed { get; } = new HandlerRegistry<BarSeriesKey>();
+
+    public BarNode Bars(int symbolId, BarTimeframe timeframe) =>
+        (BarNode)GetOrAdd(new IndicatorKey(symbolId, timeframe, IndicatorType.Bars, 0, -1), null);
+
+    public IndicatorNode Sma(IndicatorNode input, int period) => Derived(input, IndicatorType.Sma, period);
+    public IndicatorNode Ema(IndicatorNode input, int period) => Derived(input, IndicatorType.Ema, period);
+    public IndicatorNode Wma(IndicatorNode input, int period) => Derived(input, IndicatorType.Wma, period);
+    public IndicatorNode Rsi(IndicatorNode input, int period) => Derived(input, IndicatorType.Rsi, period);
+    public IndicatorNode Atr(BarNode input, int period) => Derived(input, IndicatorType.Atr, period);
+
+    // Drops one reference; the node is removed when nobody uses it or reads from it
+    public void Release(IndicatorNode node)
+    {
+        if (--node.RefCount > 0 || node.Dependents.Count > 0)
+            return;
+
+        _nodes.Remove(node.Key);
+        _schedules.Clear();
+
+        if (node.Input != null)
+        {
+            node.Input.Dependents.Remove(node);
+            Release(node.Input);
+        }
+    }
+
+    // Matches BarClosedHandler, so a BarAggregator can drive the graph directly
+    public void OnBarClosed(int symbolId, BarTimeframe timeframe, in OhlcBar bar)
+    {
+        var series = new BarSeriesKey(symbolId, timeframe);
+        if (!_schedules.TryGetValue(series, out IndicatorNode[] schedule))
+        {
+            schedule = BuildSchedule(series);
+            _schedules[series] = schedule;
+        }
+
+        if (schedule.Length == 0)
+            return;
+
+        for (int i = 0; i < schedule.Length; i++)
+            schedule[i].Recompute(in bar);
+
+        Recomputations += schedule.Length;
+        Recomputed.Invoke(series);
+    }
+
+    private IndicatorNode Derived(IndicatorNode input, IndicatorType type, int period)
+    {
+        var key = new IndicatorKey(input.Key.SymbolId, input.Key.Timeframe, type, period, input.Id);
+        return GetOrAdd(key, input);
+    }
+
+    private IndicatorNode GetOrAdd(IndicatorKey key, IndicatorNode input)
+    {
+        Requests++;
+
+        if (!_nodes.TryGetValue(key, out IndicatorNode node))
+        {
+            int id = _nextId++;
+            node = key.Type switch
+            {
+                IndicatorType.Bars => new BarNode(id, key),
+                IndicatorType.Sma => new MovingAverageNode(id, key, input, MovingAverageKind.Simple),
+                IndicatorType.Ema => new MovingAverageNode(id, key, input, MovingAverageKind.Exponential),
+                IndicatorType.Wma => new MovingAverageNode(id, key, input, MovingAverageKind.Weighted),
+                IndicatorType.Rsi => new RsiNode(id, key, input),
+                IndicatorType.Atr => new AtrNode(id, key, (BarNode)input),
+                _ => throw new ArgumentOutOfRangeException(nameof(key))
+            };
+
+            _nodes.Add(key, node);
+            if (input != null)
+            {
+                input.Dependents.Add(node);
+                input.RefCount++; // Held by its dependent
+            }
+            _schedules.Clear();
+        }
+
+        node.RefCount++;
+        return node;
+    }
+
+    // Depth-first from the bar node: every node comes after its input
+    private IndicatorNode[] BuildSchedule(BarSeriesKey series)
+    {
+        var root = new IndicatorKey(series.SymbolId, series.Timeframe, IndicatorType.Bars, 0, -1);
+        if (!_nodes.TryGetValue(root, out IndicatorNode rootNode))
+            return Array.Empty<IndicatorNode>();
+
+        var order = new List<IndicatorNode>();
+        var stack = new Stack<IndicatorNode>();
+        stack.Push(rootNode);
+
+        while (stack.Count > 0)
+        {
+            IndicatorNode node = stack.Pop();
+            order.Add(node);
+            for (int i = node.Dependents.Count - 1; i >= 0; i--)
+                stack.Push(node.Dependents[i]);
+        }
+
+        return order.ToArray();
+    }
+}
+```
+
+`Release` mirrors `GetOrAdd`: a node is held once by every caller that requested it and once by every node that reads from it, and it disappears only when both counts reach zero.
+
+### Sharing Nodes Between Strategies
+
+cTrader runs every cBot instance in its own process, so nodes are shared between strategies hosted in the same robot (for example strategies implementing `IReplayStrategy`, which also makes them replayable). The host owns one `BarAggregator` and one `IndicatorGraph`; each strategy asks the graph for the indicators it needs.
+
+```csharp
+public sealed class SmaTrendStrategy
+{
+    private readonly IndicatorNode close;
+    private readonly IndicatorNode sma;
+    private long seenVersion;
+
+    public SmaTrendStrategy(IndicatorGraph graph, int symbolId)
+    {
+        close = graph.Bars(symbolId, BarTimeframe.M15);
+        sma = graph.Sma(close, 14);
+    }
+
+    public bool HasNewData => sma.Version != seenVersion;
+
+    public bool IsBullish()
+    {
+        seenVersion = sma.Version;
+        return sma.IsReady && close.Value > sma.Value;
+    }
+}
+```
+
+Ten of these strategies on EURUSD share one bar node and one SMA(14) node:
+
+```csharp
+var graph = new IndicatorGraph();
+int eurusd = registry.Intern("EURUSD");
+
+var strategies = new List<SmaTrendStrategy>();
+for (int i = 0; i < 10; i++)
+    strategies.Add(new SmaTrendStrategy(graph, eurusd));
+
+Console.WriteLine("{0} requests, {1} nodes", graph.Requests, graph.NodeCount); // 20 requests, 2 nodes
+```
+
+### Rewriting MyTradingBot
+
+Indicators are recomputed only when a bar closes for a series that has nodes. On every tick the bot only evaluates its signal from values that are already computed, and it only runs the trade logic when the signal actually changes. At start the graph is warmed from the M15 history, so the indicators are ready immediately instead of after 14 live bars, and ticks are stamped with server time so bar boundaries match the platform's, in backtests too.
+
+```csharp
+using cAlgo.API;
+
+namespace cAlgo
+{
+    [Robot(TimeZone = TimeZones.UTC, AccessRights = AccessRights.None)]
+    public class MyTradingBot : Robot
+    {
+        private readonly SymbolRegistry registry = new SymbolRegistry(64);
+        private readonly IndicatorGraph graph = new IndicatorGraph();
+        private BarAggregator bars;
+        private int symbolId;
+
+        private IndicatorNode movingAverage;
+        private IndicatorNode rsi;
+        private bool buySignal;
+        private bool sellSignal;
+
+        protected override void OnStart()
+        {
+            symbolId = registry.Intern(SymbolName);
+            bars = new BarAggregator(registry.MaxSymbols, graph.OnBarClosed);
+
+            var m15 = graph.Bars(symbolId, BarTimeframe.M15);
+            movingAverage = graph.Sma(m15, 14);
+            rsi = graph.Rsi(m15, 14);
+
+            WarmUp(MarketData.GetBars(TimeFrame.Minute15));
+
+            Symbols.SubscribeMarketData(Symbol, MarketDataUpdate);
+        }
+
+        // Pushes every closed history bar through the graph. The forming bar is left to the aggregator,
+        // so the first live bar only holds the ticks received since the start.
+        private void WarmUp(Bars history)
+        {
+            for (int i = 0; i < history.Count - 1; i++)
+            {
+                var bar = new OhlcBar
+                {
+                    OpenTimeNanos = NanoTime.FromDateTime(history.OpenTimes[i]),
+                    Open = history.OpenPrices[i],
+                    High = history.HighPrices[i],
+                    Low = history.LowPrices[i],
+                    Close = history.ClosePrices[i],
+                    TickVolume = (long)history.TickVolumes[i]
+                };
+                graph.OnBarClosed(symbolId, BarTimeframe.M15, in bar);
+            }
+        }
+
+        private void MarketDataUpdate(MarketDataEventArgs args)
+        {
+            // Only dirty nodes are recomputed, and only when a bar closes.
+            // Server time keeps bar boundaries aligned with the platform, also in backtests.
+            bars.OnTick(symbolId, args.Bid, NanoTime.FromDateTime(Server.TimeInUtc));
+
+            if (!movingAverage.IsReady || !rsi.IsReady)
+                return;
+
+            bool buy = movingAverage.Value > args.Bid && rsi.Value < 30;
+            bool sell = movingAverage.Value < args.Bid && rsi.Value > 70;
+
+            if (buy == buySignal && sell == sellSignal)
+                return; // Nothing changed: skip ExecuteTrades
+
+            buySignal = buy;
+            sellSignal = sell;
+            ExecuteTrades();
+        }
+
+        private void ExecuteTrades()
+        {
+            // As in the original sample
+        }
+    }
+}
+```
+
+### Things to Keep in Mind
+
+* **One thread per graph:** the graph is updated from the thread that drives its `BarAggregator`. For sharded hosts, give each shard its own graph for its symbols.
+* **Register up front:** adding or releasing nodes clears the cached schedules. Request nodes in `OnStart` and release them in `OnStop`.
+* **Keys must capture everything that changes the result:** two SMAs with the same period over different inputs are different nodes because `InputId` differs.
+* **Watch the counters:** `Requests` vs `NodeCount` shows how much sharing you get; `Recomputations` shows the real per-bar work.
+
+By modelling indicators as a keyed DAG with shared nodes and dirty propagation, each indicator is computed once per bar no matter how many strategies use it, and the per-tick path only evaluates signals instead of recalculating every indicator.
@@ -0,0 +1,566 @@
+In the context of developing for cTrader using .NET 6 and C# 10, the functions notes compute averages with scalar loops: `Calculations.CalculateAverage(int[] numbers)` adds one number at a time, `CalculateAveragePrice(int bars)` reads `Symbol.ClosePrices[i]` in a loop, and `MovingAverage.CalculateSignal(double[] prices)` works on a single window. Streaming indicators are the right tool once a bot is live, but warm-ups and backtests start from years of M1 history (500,000+ bars per symbol), and feeding those bars one at a time through per-bar evaluation is slow. A **batch mode** computes a whole output series in one call over primitive arrays, using kernels that the JIT can turn into SIMD instructions.
+
+### SIMD in .NET 6
+
+`System.Numerics.Vector<double>` holds as many doubles as the CPU's vector registers allow (4 with AVX2, 2 with SSE2). Operations such as `+`, `*`, `Vector.Max`, `Vector.Abs` and `Vector.SquareRoot` work on all lanes at once, and the JIT compiles them to the best instruction set available on the machine. Code that uses `Vector<T>` stays portable: on hardware without SIMD, `Vector.IsHardwareAccelerated` is `false` and the operations still work, only slower.
+
+The kernels below follow three rules:
+
+* **Work on spans of primitives**, not `IEnumerable` or objects, so data is contiguous and bounds checks can be removed.
+* **Turn sliding windows into independent element-wise work** wherever possible (prefix-sum differences, block-wise max/min), because independent elements vectorize.
+* **Keep true recurrences scalar but tight.** EMA and Wilder smoothing depend on the previous output, so they stay a simple loop; they are already cheap.
+
+Every kernel writes `double.NaN` for indices that are still inside the warm-up period, matching what the streaming engines report.
+
+### Sum and Average
+
+```csharp
+using System;
+using System.Numerics;
+
+public static partial class BatchIndicators
+{
+    public static double Sum(ReadOnlySpan<double> values)
+    {
+        int width = Vector<double>.Count;
+        var acc0 = Vector<double>.Zero;
+        var acc1 = Vector<double>.Zero;
+        int i = 0;
+
+        // Two accumulators hide the latency of the vector adds
+        for (; i <= values.Length - 2 * width; i += 2 * width)
+        {
+            acc0 += new Vector<double>(values.Slice(i));
+            acc1 += new Vector<double>(values.Slice(i + width));
+        }
+
+        double sum = Vector.Dot(acc0 + acc1, Vector<double>.One);
+        for (; i < values.Length; i++)
+            sum += values[i];
+
+        return sum;
+    }
+
+    public static double Average(ReadOnlySpan<double> values) =>
+        values.Length == 0 ? double.NaN : Sum(values) / values.Length;
+
+    public static double Average(ReadOnlySpan<int> values)
+    {
+        if (values.Length == 0)
+            return double.NaN;
+
+        int width = Vector<int>.Count;
+        var acc = Vector<long>.Zero;
+        int i = 0;
+
+        // Widen to long so large arrays cannot overflow
+        for (; i <= values.Length - width; i += width)
+        {
+            Vector.Widen(new Vector<int>(values.Slice(i)), out Vector<long> low, out Vector<long> high);
+            acc += low + high;
+        }
+
+        long sum = Vector.Dot(acc, Vector<long>.One);
+        for (; i < values.Length; i++)
+            sum += values[i];
+
+        return (double)sum / values.Length;
+    }
+}
+```
+
+### SMA and Rolling Standard Deviation
+
+A sliding-window sum is a recurrence, but the same result can be written as the difference of two prefix sums: `sum(i-p+1..i) = P[i+1] - P[i+1-p]`. Building `P` is one sequential pass of additions; the differences for every index are independent and vectorize. To keep the prefix sums small (and therefore precise over millions of bars), prices are **rebased**: the first price is subtracted before summing and added back to the mean. The same trick with a prefix sum of squares gives the rolling variance.
+
+```csharp
+using System;
+using System.Buffers;
+using System.Numerics;
+
+public static partial class BatchIndicators
+{
+    public static void Sma(ReadOnlySpan<double> values, int period, Span<double> output)
+    {
+        Validate(values.Length, period, output.Length);
+        int n = values.Length;
+        output.Slice(0, Math.Min(period - 1, n)).Fill(double.NaN);
+        if (n < period)
+            return;
+
+        double baseValue = values[0];
+        double[] prefix = ArrayPool<double>.Shared.Rent(n + 1);
+        try
+        {
+            PrefixSums(values, baseValue, prefix, null);
+
+            int count = n - period + 1;
+            ReadOnlySpan<double> upper = prefix.AsSpan(period, count);
+            ReadOnlySpan<double> lower = prefix.AsSpan(0, count);
+            Span<double> target = output.Slice(period - 1, count);
+
+            var scale = new Vector<double>(1.0 / period);
+            var offset = new Vector<double>(baseValue);
+            int width = Vector<double>.Count;
+            int i = 0;
+
+            for (; i <= count - width; i += width)
+            {
+                var mean = (new Vector<double>(upper.Slice(i)) - new Vector<double>(lower.Slice(i))) * scale + offset;
+                mean.CopyTo(target.Slice(i));
+            }
+
+            for (; i < count; i++)
+                target[i] = (upper[i] - lower[i]) / period + baseValue;
+        }
+        finally
+        {
+            ArrayPool<double>.Shared.Return(prefix);
+        }
+    }
+
+    // Population standard deviation over each window, as used by Bollinger Bands
+    public static void StdDev(ReadOnlySpan<double> values, int period, Span<double> output)
+    {
+        Validate(values.Length, period, output.Length);
+        int n = values.Length;
+        output.Slice(0, Math.Min(period - 1, n)).Fill(double.NaN);
+        if (n < period)
+            return;
+
+        double baseValue = values[0];
+        double[] prefix = ArrayPool<double>.Shared.Rent(n + 1);
+        double[] prefixSq = ArrayPool<double>.Shared.Rent(n + 1);
+        try
+        {
+            PrefixSums(values, baseValue, prefix, prefixSq);
+
+            int count = n - period + 1;
+            Span<double> target = output.Slice(period - 1, count);
+            var inv = new Vector<double>(1.0 / period);
+            int width = Vector<double>.Count;
+            int i = 0;
+
+            for (; i <= count - width; i += width)
+            {
+                var s = new Vector<double>(prefix, i + period) - new Vector<double>(prefix, i);
+                var s2 = new Vector<double>(prefixSq, i + period) - new Vector<double>(prefixSq, i);
+                var mean = s * inv;
+                var variance = Vector.Max(s2 * inv - mean * mean, Vector<double>.Zero);
+                Vector.SquareRoot(variance).CopyTo(target.Slice(i));
+            }
+
+            for (; i < count; i++)
+            {
+                double mean = (prefix[i + period] - prefix[i]) / period;
+                double variance = (prefixSq[i + period] - prefixSq[i]) / period - mean * mean;
+                target[i] = Math.Sqrt(Math.Max(variance, 0));
+            }
+        }
+        finally
+        {
+            ArrayPool<double>.Shared.Return(prefix);
+            ArrayPool<double>.Shared.Return(prefixSq);
+        }
+    }
+
+    private static void PrefixSums(ReadOnlySpan<double> values, double baseValue, double[] prefix, double[] prefixSq)
+    {
+        double sum = 0;
+        double sumSq = 0;
+        prefix[0] = 0;
+        if (prefixSq != null)
+            prefixSq[0] = 0;
+
+        for (int i = 0; i < values.Length; i++)
+        {
+            double x = values[i] - baseValue;
+            sum += x;
+            prefix[i + 1] = sum;
+
+            if (prefixSq != null)
+            {
+                sumSq += x * x;
+                prefixSq[i + 1] = sumSq;
+            }
+        }
+    }
+
+    private static void Validate(int length, int period, int outputLength)
+    {
+        if (period <= 0)
+            throw new ArgumentOutOfRangeException(nameof(period), "Period must be positive.");
+        if (outputLength < length)
+            throw new ArgumentException("Output must be at least as long as the input.", nameof(outputLength));
+    }
+}
+```
+
+The variance is shift-invariant, so rebasing does not change the standard deviation at all; it only keeps the squares small.
+
+### EMA
+
+EMA is a true recurrence, so it stays scalar. The loop does one multiply-add per element on a span, which the JIT compiles without bounds checks.
+
+```csharp
+using System;
+
+public static partial class BatchIndicators
+{
+    public static void Ema(ReadOnlySpan<double> values, int period, Span<double> output)
+    {
+        Validate(values.Length, period, output.Length);
+        int n = values.Length;
+        output.Slice(0, Math.Min(period - 1, n)).Fill(double.NaN);
+        if (n < period)
+            return;
+
+        // Seed with the SMA of the first Period values, like StreamingEma
+        double ema = Sum(values.Slice(0, period)) / period;
+        output[period - 1] = ema;
+
+        double alpha = 2.0 / (period + 1);
+        for (int i = period; i < n; i++)
+        {
+            ema += alpha * (values[i] - ema);
+            output[i] = ema;
+        }
+    }
+}
+```
+
+### Rolling Max and Min
+
+A rolling maximum over a window of `p` can be computed in O(n) with the van Herk/Gil-Werman algorithm: split the series into blocks of `p`, compute the running max from the start of each block (`g`) and from the end of each block (`h`), and then every window max is `max(h[i], g[i + p - 1])`. The last step is element-wise, so it vectorizes with `Vector.Max`. Rolling min is the same with `Min`.
+
+```csharp
+using System;
+using System.Buffers;
+using System.Numerics;
+
+public static partial class BatchIndicators
+{
+    public static void RollingMax(ReadOnlySpan<double> values, int period, Span<double> output) =>
+        RollingExtreme(values, period, output, max: true);
+
+    public static void RollingMin(ReadOnlySpan<double> values, int period, Span<double> output) =>
+        RollingExtreme(values, period, output, max: false);
+
+    public static double Max(ReadOnlySpan<double> values)
+    {
+        int width = Vector<double>.Count;
+        var acc = new Vector<double>(double.NegativeInfinity);
+        int i = 0;
+        for (; i <= values.Length - width; i += width)
+            acc = Vector.Max(acc, new Vector<double>(values.Slice(i)));
+
+        double result = double.NegativeInfinity;
+        for (int lane = 0; lane < width; lane++)
+            result = Math.Max(result, acc[lane]);
+        for (; i < values.Length; i++)
+            result = Math.Max(result, values[i]);
+        return result;
+    }
+
+    public static double Min(ReadOnlySpan<double> values)
+    {
+        int width = Vector<double>.Count;
+        var acc = new Vector<double>(double.PositiveInfinity);
+        int i = 0;
+        for (; i <= values.Length - width; i += width)
+            acc = Vector.Min(acc, new Vector<double>(values.Slice(i)));
+
+        double result = double.PositiveInfinity;
+        for (int lane = 0; lane < width; lane++)
+            result = Math.Min(result, acc[lane]);
+        for (; i < values.Length; i++)
+            result = Math.Min(result, values[i]);
+        return result;
+    }
+
+    private static void RollingExtreme(ReadOnlySpan<double> values, int period, Span<double> output, bool max)
+    {
+        Validate(values.Length, period, output.Length);
+        int n = values.Length;
+        output.Slice(0, Math.Min(period - 1, n)).Fill(double.NaN);
+        if (n < period)
+            return;
+
+        double[] g = ArrayPool<double>.Shared.Rent(n);
+        double[] h = ArrayPool<double>.Shared.Rent(n);
+        try
+        {
+            for (int i = 0; i < n; i++)
+                g[i] = i % period == 0 ? values[i] : Pick(g[i - 1], values[i], max);
+
+            for (int i = n - 1; i >= 0; i--)
+                h[i] = i == n - 1 || (i + 1) % period == 0 ? values[i] : Pick(h[i + 1], values[i], max);
+
+            int count = n - period + 1;
+            Span<double> target = output.Slice(period - 1, count);
+            int width = Vector<double>.Count;
+            int k = 0;
+
+            for (; k <= count - width; k += width)
+            {
+                var left = new Vector<double>(h, k);
+                var right = new Vector<double>(g, k + period - 1);
+                (max ? Vector.Max(left, right) : Vector.Min(left, right)).CopyTo(target.Slice(k));
+            }
+
+            for (; k < count; k++)
+                target[k] = Pick(h[k], g[k + period - 1], max);
+        }
+        finally
+        {
+            ArrayPool<double>.Shared.Return(g);
+            ArrayPool<double>.Shared.Return(h);
+        }
+    }
+
+    private static double Pick(double a, double b, bool max) => max ? Math.Max(a, b) : Math.Min(a, b);
+}
+```
+
+### ATR
+
+The true range of every bar only depends on that bar and the previous close, so it is computed for all bars at once with vector `Abs` and `Max` over shifted spans. Wilder smoothing is then a short scalar recurrence.
+
+```csharp
+using System;
+using System.Buffers;
+using System.Numerics;
+
+public static partial class BatchIndicators
+{
+    public static void TrueRange(ReadOnlySpan<double> high, ReadOnlySpan<double> low, ReadOnlySpan<double> close, Span<double> output)
+    {
+        int n = high.Length;
+        if (low.Length != n || close.Length != n || output.Length < n)
+            throw new ArgumentException("High, low, close and output must have the same length.");
+        if (n == 0)
+            return;
+
+        output[0] = high[0] - low[0];
+
+        // Bar i uses close[i - 1]: shift the close span by one
+        ReadOnlySpan<double> h = high.Slice(1);
+        ReadOnlySpan<double> l = low.Slice(1);
+        ReadOnlySpan<double> pc = close.Slice(0, n - 1);
+        Span<double> tr = output.Slice(1, n - 1);
+
+        int width = Vector<double>.Count;
+        int i = 0;
+        for (; i <= tr.Length - width; i += width)
+        {
+            var vh = new Vector<double>(h.Slice(i));
+            var vl = new Vector<double>(l.Slice(i));
+            var vc = new Vector<double>(pc.Slice(i));
+            var range = Vector.Max(vh - vl, Vector.Max(Vector.Abs(vh - vc), Vector.Abs(vl - vc)));
+            range.CopyTo(tr.Slice(i));
+        }
+
+        for (; i < tr.Length; i++)
+            tr[i] = Math.Max(h[i] - l[i], Math.Max(Math.Abs(h[i] - pc[i]), Math.Abs(l[i] - pc[i])));
+    }
+
+    public static void Atr(ReadOnlySpan<double> high, ReadOnlySpan<double> low, ReadOnlySpan<double> close, int period, Span<double> output)
+    {
+        Validate(high.Length, period, output.Length);
+        int n = high.Length;
+        double[] tr = ArrayPool<double>.Shared.Rent(n);
+        try
+        {
+            TrueRange(high, low, close, tr.AsSpan(0, n));
+
+            output.Slice(0, Math.Min(period - 1, n)).Fill(double.NaN);
+            if (n < period)
+                return;
+
+            // Same seeding and smoothing as StreamingAtr
+            double atr = Sum(tr.AsSpan(0, period)) / period;
+            output[period - 1] = atr;
+            for (int i = period; i < n; i++)
+            {
+                atr = (atr * (period - 1) + tr[i]) / period;
+                output[i] = atr;
+            }
+        }
+        finally
+        {
+            ArrayPool<double>.Shared.Return(tr);
+        }
+    }
+}
+```
+
+### Handing Over to the Streaming Engines
+
+To continue a batch run bar by bar, the streaming engines take their state from the batch results instead of replaying the history. SMA and WMA need the prices still in their window; EMA and ATR need only the last value, and ATR also the last close:
+
+```csharp
+// Added to StreamingSma (the same method, with the weighted sum, is added to StreamingWma)
+// window holds the last min(count, Period) prices, oldest first
+public void Seed(ReadOnlySpan<double> window, long count)
+{
+    if (count < 0 || window.Length != Math.Min(count, Period))
+        throw new ArgumentException("The window must hold the last min(count, Period) prices.", nameof(window));
+
+    Reset();
+    window.CopyTo(_window);
+    foreach (double price in window)
+        _sum.Add(price);
+
+    _next = window.Length == Period ? 0 : window.Length;
+    Count = count;
+    Value = IsReady ? _sum.Value / Period : double.NaN;
+}
+
+// Added to StreamingWma
+public void Seed(ReadOnlySpan<double> window, long count)
+{
+    if (count < 0 || window.Length != Math.Min(count, Period))
+        throw new ArgumentException("The window must hold the last min(count, Period) prices.", nameof(window));
+
+    Reset();
+    window.CopyTo(_window);
+    for (int i = 0; i < window.Length; i++)
+    {
+        // Oldest first, so the weights are 1..window.Length as during the warm-up
+        _sum.Add(window[i]);
+        _weightedSum.Add((i + 1) * window[i]);
+    }
+
+    _next = window.Length == Period ? 0 : window.Length;
+    Count = count;
+    Value = IsReady ? _weightedSum.Value / _divisor : double.NaN;
+}
+
+// Added to StreamingEma
+// Only a ready EMA can be seeded; shorter histories are cheap to feed through Update
+public void Seed(double value, long count)
+{
+    if (count < Period)
+        throw new ArgumentOutOfRangeException(nameof(count), "Count must be at least Period.");
+    if (!double.IsFinite(value))
+        throw new ArgumentOutOfRangeException(nameof(value), "Value must be finite.");
+
+    _seed.Reset();
+    Count = count;
+    Value = value;
+}
+
+// Added to StreamingAtr
+public void Seed(double value, double previousClose, long count)
+{
+    if (count < Period)
+        throw new ArgumentOutOfRangeException(nameof(count), "Count must be at least Period.");
+    if (!double.IsFinite(value) || !double.IsFinite(previousClose))
+        throw new ArgumentOutOfRangeException(nameof(value), "Value and previous close must be finite.");
+
+    _trSum = 0;
+    _previousClose = previousClose;
+    Count = count;
+    Value = value;
+    LastTrueRange = double.NaN;
+}
+```
+
+The kernels use the same seeding as the engines (the SMA of the first `period` values for EMA and ATR), so the first streaming update after `Seed` gives the value the kernel would have computed for that bar.
+
+### Using Batch Mode
+
+The original helpers become one-liners over spans:
+
+```csharp
+public class Calculations
+{
+    public double CalculateAverage(int[] numbers)
+    {
+        return BatchIndicators.Average(numbers);
+    }
+}
+
+public double CalculateAveragePrice(int bars)
+{
+    // Copy the last `bars` closes once and average them with the vector kernel
+    var closes = new double[bars];
+    for (int i = 0; i < bars; i++)
+        closes[i] = Bars.ClosePrices.Last(i);
+
+    return BatchIndicators.Average(closes);
+}
+```
+
+For warm-ups and backtests, the history is copied into arrays once and every indicator series is computed in a single call. The streaming engines are then seeded from the last closed bar and continue in `OnBar`:
+
+```csharp
+using System;
+using cAlgo.API;
+
+namespace cAlgo
+{
+    [Robot(TimeZone = TimeZones.UTC, AccessRights = AccessRights.None)]
+    public class BatchWarmUpBot : Robot
+    {
+        private double[] sma200;
+        private double[] atr14;
+        private double[] upperChannel;
+
+        private readonly StreamingSma sma = new StreamingSma(200);
+        private readonly StreamingAtr atr = new StreamingAtr(14);
+
+        protected override void OnStart()
+        {
+            int n = Bars.Count - 1; // The last bar is still forming
+            if (n == 0)
+                return; // No closed bar yet: the engines warm up from OnBar
+            var high = new double[n];
+            var low = new double[n];
+            var close = new double[n];
+            for (int i = 0; i < n; i++)
+            {
+                high[i] = Bars.HighPrices[i];
+                low[i] = Bars.LowPrices[i];
+                close[i] = Bars.ClosePrices[i];
+            }
+
+            sma200 = new double[n];
+            atr14 = new double[n];
+            upperChannel = new double[n];
+
+            BatchIndicators.Sma(close, 200, sma200);
+            BatchIndicators.Atr(high, low, close, 14, atr14);
+            BatchIndicators.RollingMax(high, 20, upperChannel);
+
+            Print("SIMD: {0} ({1} doubles per vector), last SMA200 {2}, ATR14 {3}, 20-bar high {4}",
+                System.Numerics.Vector.IsHardwareAccelerated, System.Numerics.Vector<double>.Count,
+                sma200[n - 1], atr14[n - 1], upperChannel[n - 1]);
+
+            // Hand over to the streaming engines instead of replaying the history
+            sma.Seed(close.AsSpan(Math.Max(0, n - sma.Period)), n);
+            if (n >= atr.Period)
+                atr.Seed(atr14[n - 1], close[n - 1], n);
+            else
+                for (int i = 0; i < n; i++)
+                    atr.Update(high[i], low[i], close[i]);
+        }
+
+        protected override void OnBar()
+        {
+            // O(1) per bar from here on; values continue the batch series
+            sma.Update(Bars.ClosePrices.Last(1));
+            atr.Update(Bars.HighPrices.Last(1), Bars.LowPrices.Last(1), Bars.ClosePrices.Last(1));
+        }
+    }
+}
+```
+
+### Tips
+
+* **Batch for history, stream for live:** use these kernels to warm up or backtest, then `Seed` the streaming engines from the last closed bar. Both use the same seeding rules, so the values line up.
+* **Reuse output arrays** between runs; the kernels only rent temporary buffers from `ArrayPool<double>.Shared` and return them.
+* **Measure on the target machine:** the speed-up depends on `Vector<double>.Count`. Use a benchmarking tool such as BenchmarkDotNet against the scalar loops before and after.
+* **Precision:** prefix-sum kernels rebase prices on the first value. For very long series with a large drift (years of an index or crypto pair), split the history into chunks of a few hundred thousand bars and run the kernel per chunk, overlapping by `period - 1` bars.
+
+By computing whole indicator series in one call with span-based, SIMD-friendly kernels, warm-ups and backtests over years of M1 data avoid per-bar overhead and use every lane of the CPU's vector units.
@@ -0,0 +1,307 @@
+In the collections notes, `Dictionary<string, double> indicatorValues` is rebuilt on every bar by calling `GetCustomIndicator("RSI").Last(0)` and `IndicatorDataSeries.Get("Moving Average", Periodicity.M15).Last(0)`. Strategies and scanners that look back at historical values (the RSI 5 bars ago, the SMA at yesterday's close) recompute them again and again, and an unbounded dictionary of everything ever computed would grow forever. A **bounded LRU cache** keeps the most recently used indicator values and evicts the least recently used one when it is full.
+
+**Cache Keys:**
+
+A cached value is identified by everything that determines it:
+
+* `SymbolId` – the interned symbol id from the `SymbolRegistry`
+* `Timeframe` – the bar timeframe
+* `Type` – the indicator type (`Sma`, `Rsi`, `Atr`, ...)
+* `ParameterHash` – a hash of the indicator's parameters (period, source, deviations, ...)
+* `BarIndex` – the bar the value belongs to
+
+The key is a `readonly record struct` made only of integers and enums, so it is hashed and compared without touching strings or allocating.
+
+```csharp
+using System;
+
+public readonly record struct IndicatorCacheKey(int SymbolId, BarTimeframe Timeframe, IndicatorType Type, int ParameterHash, int BarIndex)
+{
+    public static int HashParameters(int period) => period;
+
+    public static int HashParameters(int period, double deviations) => HashCode.Combine(period, deviations);
+
+    public static int HashParameters(int period, double deviations, int source) => HashCode.Combine(period, deviations, source);
+}
+```
+
+`HashCode.Combine` is seeded randomly per process, which is fine for an in-memory cache. Two different parameter sets can in rare cases produce the same hash; for single-integer parameters such as a period, `HashParameters(period)` returns the period itself, so those keys can never collide.
+
+**How the LRU Cache Works:**
+
+* Entries live in pre-allocated arrays (`keys`, `values`, `previous`, `next`), and a `Dictionary<IndicatorCacheKey, int>` maps a key to its slot.
+* The slots form a doubly linked list ordered from most recently used (head) to least recently used (tail). The links are array indices, so moving an entry to the front allocates nothing.
+* A hit moves the entry to the head. A miss on a full cache reuses the tail slot for the new value.
+* Hits, misses and evictions are counted so you can see whether the cache is sized correctly.
+
+**Code Sample (LRU Indicator Cache):**
+
+```csharp
+using System;
+using System.Collections.Generic;
+
+public sealed class IndicatorValueCache
+{
+    private const int None = -1;
+
+    private readonly Dictionary<IndicatorCacheKey, int> _slots;
+    private readonly IndicatorCacheKey[] _keys;
+    private readonly double[] _values;
+    private readonly int[] _previous;
+    private readonly int[] _next;
+    private int _head = None;
+    private int _tail = None;
+    private int _count;
+
+    public IndicatorValueCache(int capacity)
+    {
+        if (capacity <= 0)
+            throw new ArgumentOutOfRangeException(nameof(capacity));
+
+        _slots = new Dictionary<IndicatorCacheKey, int>(capacity);
+        _keys = new IndicatorCacheKey[capacity];
+        _values = new double[capacity];
+        _previous = new int[capacity];
+        _next = new int[capacity];
+    }
+
+    public int Capacity => _keys.Length;
+    public int Count => _count;
+    public long Hits { get; private set; }
+    public long Misses { get; private set; }
+    public long Evictions { get; private set; }
+    public double HitRate => Hits + Misses == 0 ? 0 : (double)Hits / (Hits + Misses);
+
+    public bool TryGet(in IndicatorCacheKey key, out double value)
+    {
+        if (_slots.TryGetValue(key, out int slot))
+        {
+            MoveToFront(slot);
+            Hits++;
+            value = _values[slot];
+            return true;
+        }
+
+        Misses++;
+        value = double.NaN;
+        return false;
+    }
+
+    public void Set(in IndicatorCacheKey key, double value)
+    {
+        if (_slots.TryGetValue(key, out int slot))
+        {
+            _values[slot] = value;
+            MoveToFront(slot);
+            return;
+        }
+
+        if (_count < _keys.Length)
+        {
+            slot = _count++;
+        }
+        else
+        {
+            // Reuse the least recently used slot
+            slot = _tail;
+            Unlink(slot);
+            _slots.Remove(_keys[slot]);
+            Evictions++;
+        }
+
+        _keys[slot] = key;
+        _values[slot] = value;
+        _slots.Add(key, slot);
+        LinkAtFront(slot);
+    }
+
+    // The state object lets callers pass context without a capturing lambda
+    public double GetOrAdd<TState>(in IndicatorCacheKey key, TState state, Func<IndicatorCacheKey, TState, double> compute)
+    {
+        if (TryGet(in key, out double value))
+            return value;
+
+        value = compute(key, state);
+        Set(in key, value);
+        return value;
+    }
+
+    // Drops every cached value of one series, e.g. after the history was reloaded
+    public int Invalidate(int symbolId, BarTimeframe timeframe)
+    {
+        int removed = 0;
+
+        // Walk slots from the top down, so the slot moved into a freed one has already been checked
+        for (int slot = _count - 1; slot >= 0; slot--)
+        {
+            if (_keys[slot].SymbolId == symbolId && _keys[slot].Timeframe == timeframe)
+            {
+                Unlink(slot);
+                _slots.Remove(_keys[slot]);
+                MoveLastUsedInto(slot);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public void Clear()
+    {
+        _slots.Clear();
+        _head = _tail = None;
+        _count = 0;
+    }
+
+    private void MoveToFront(int slot)
+    {
+        if (slot == _head)
+            return;
+
+        Unlink(slot);
+        LinkAtFront(slot);
+    }
+
+    private void LinkAtFront(int slot)
+    {
+        _previous[slot] = None;
+        _next[slot] = _head;
+        if (_head != None)
+            _previous[_head] = slot;
+        _head = slot;
+        if (_tail == None)
+            _tail = slot;
+    }
+
+    private void Unlink(int slot)
+    {
+        int prev = _previous[slot];
+        int next = _next[slot];
+
+        if (prev != None) _next[prev] = next; else _head = next;
+        if (next != None) _previous[next] = prev; else _tail = prev;
+    }
+
+    // Keeps slots 0.._count-1 dense by moving the highest used slot into the freed one
+    private void MoveLastUsedInto(int freed)
+    {
+        int last = --_count;
+        if (freed == last)
+            return;
+
+        _keys[freed] = _keys[last];
+        _values[freed] = _values[last];
+        _previous[freed] = _previous[last];
+        _next[freed] = _next[last];
+
+        if (_previous[freed] != None) _next[_previous[freed]] = freed; else _head = freed;
+        if (_next[freed] != None) _previous[_next[freed]] = freed; else _tail = freed;
+        _slots[_keys[freed]] = freed;
+    }
+}
+```
+
+`Invalidate` keeps the used slots packed at the front of the arrays, so a new entry can always take slot `_count` while the cache is not full.
+
+**Replacing the Rebuilt Dictionary:**
+
+Before, every bar rebuilt the values:
+
+```csharp
+Dictionary<string, double> indicatorValues = new Dictionary<string, double>();
+indicatorValues.Add("RSI", GetCustomIndicator("RSI").Last(0));
+indicatorValues.Add("Moving Average", IndicatorDataSeries.Get("Moving Average", Periodicity.M15).Last(0));
+```
+
+With the cache, a value for a given bar is computed once and served from memory afterwards. Historical lookups (`BarIndex` in the past) are exactly the ones that benefit most, because a closed bar's indicator value never changes.
+
+```csharp
+using cAlgo.API;
+using cAlgo.API.Indicators;
+
+namespace cAlgo
+{
+    [Robot(TimeZone = TimeZones.UTC, AccessRights = AccessRights.None)]
+    public class DivergenceScanner : Robot
+    {
+        private readonly SymbolRegistry registry = new SymbolRegistry(64);
+        private readonly IndicatorValueCache cache = new IndicatorValueCache(65_536);
+        private RelativeStrengthIndex rsi;
+        private int symbolId;
+        private BarTimeframe timeframe;
+
+        protected override void OnStart()
+        {
+            // The key carries the chart's timeframe, so values from another timeframe are never served
+            if (!TryGetBarTimeframe(TimeFrame, out timeframe))
+            {
+                Print("Timeframe {0} is not supported by the cache key", TimeFrame);
+                Stop();
+                return;
+            }
+
+            symbolId = registry.Intern(SymbolName);
+            rsi = Indicators.RelativeStrengthIndex(Bars.ClosePrices, 14);
+            Timer.Start(60);
+        }
+
+        protected override void OnBar()
+        {
+            int last = Bars.Count - 2; // Last closed bar
+
+            // Scan back 50 bars for a bearish divergence; only the newest bar is a miss
+            for (int back = 1; back <= 50; back++)
+            {
+                int index = last - back;
+                if (index < 0)
+                    break;
+
+                if (Bars.HighPrices[last] > Bars.HighPrices[index] && Rsi(last) < Rsi(index))
+                {
+                    Print("Bearish divergence against bar {0}", index);
+                    break;
+                }
+            }
+        }
+
+        protected override void OnTimer()
+        {
+            Print("RSI cache: {0} entries, hit rate {1:P1}, {2} evictions", cache.Count, cache.HitRate, cache.Evictions);
+        }
+
+        private double Rsi(int barIndex)
+        {
+            var key = new IndicatorCacheKey(symbolId, timeframe, IndicatorType.Rsi,
+                IndicatorCacheKey.HashParameters(14), barIndex);
+
+            return cache.GetOrAdd(in key, rsi, (k, indicator) => indicator.Result[k.BarIndex]);
+        }
+
+        private static bool TryGetBarTimeframe(TimeFrame timeFrame, out BarTimeframe timeframe)
+        {
+            if (timeFrame == TimeFrame.Minute) timeframe = BarTimeframe.M1;
+            else if (timeFrame == TimeFrame.Minute5) timeframe = BarTimeframe.M5;
+            else if (timeFrame == TimeFrame.Minute15) timeframe = BarTimeframe.M15;
+            else if (timeFrame == TimeFrame.Hour) timeframe = BarTimeframe.H1;
+            else if (timeFrame == TimeFrame.Daily) timeframe = BarTimeframe.D1;
+            else
+            {
+                timeframe = default;
+                return false;
+            }
+
+            return true;
+        }
+    }
+}
+```
+
+The lambda passed to `GetOrAdd` captures nothing (the indicator is passed as state), so the compiler caches a single delegate instance and the lookup path does not allocate.
+
+**Tips:**
+
+* **Cache closed bars only:** a forming bar's value changes on every tick. Either skip the cache for it or call `Set` again when it changes.
+* **Size by working set:** symbols × indicators × bars looked back. Watch `HitRate` and `Evictions`; a low hit rate with many evictions means the cache is too small.
+* **One cache per thread:** the cache is not thread-safe. In a sharded host, give every shard its own cache for its symbols.
+* **Invalidate on history reloads:** if the bar history is reloaded or bar indices shift, call `Invalidate(symbolId, timeframe)` so stale values are not served.
+
+By caching indicator values under a compact integer key with LRU eviction and hit/miss counters, strategies and scanners that revisit historical values stop recomputing them, while memory stays bounded by the cache's capacity.
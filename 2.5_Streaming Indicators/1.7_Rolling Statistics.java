@@ -0,0 +1,344 @@
+In the context of developing for cTrader using .NET 6 and C# 10, `MovingAverage.CalculateSignal(double[] prices)` and the other indicator samples only look at averages; none of them know how spread out prices are. Mean-reversion strategies need dispersion: how many standard deviations the price is from its mean (z-score), where the Bollinger Bands are, whether returns are skewed, and which way the recent trend slopes. Computed naively, each of these loops over the whole window on every tick. The **rolling statistics** below update in O(1) per sample using Welford-style updates, and they all share one window buffer.
+
+### Why Welford-Style Updates
+
+The textbook variance formula `E[x²] - E[x]²` subtracts two large, nearly equal numbers. With prices around 1.1 and a variance around 1e-8, almost all significant digits cancel and the result can even become negative. Welford's method instead keeps the running mean and the sum of squared deviations from that mean (`M2`), updating both with small corrections for every new value. It stays accurate no matter how large the prices are relative to their spread.
+
+For a rolling window, every update is a **remove** of the oldest value followed by an **add** of the new one. The remove step is the exact algebraic inverse of the add step, so the window's moments are always those of exactly the values in the window. The same idea extends to the third moment (`M3`) for skew.
+
+### The Shared Window Buffer
+
+One `RollingWindow` owns the circular buffer of the last `period` values. Calculators implement `IWindowAccumulator` and are attached to the window; each push removes the evicted value from every accumulator and adds the new one. Several calculators over the same series therefore share one buffer and one eviction.
+
+```csharp
+using System;
+
+public interface IWindowAccumulator
+{
+    void Add(double value);
+    void RemoveOldest(double value);
+    void Reset();
+}
+
+public sealed class RollingWindow
+{
+    private readonly double[] _buffer;
+    private IWindowAccumulator[] _accumulators = Array.Empty<IWindowAccumulator>();
+    private int _next;
+
+    public RollingWindow(int period)
+    {
+        if (period <= 1)
+            throw new ArgumentOutOfRangeException(nameof(period), "Period must be at least 2.");
+
+        _buffer = new double[period];
+    }
+
+    public int Period => _buffer.Length;
+    public int Count { get; private set; }
+    public bool IsFull => Count == _buffer.Length;
+
+    // Oldest value in the window (index 0) to newest (index Count - 1)
+    public double this[int index] => _buffer[(_next - Count + index + _buffer.Length) % _buffer.Length];
+
+    public T Attach<T>(T accumulator) where T : IWindowAccumulator
+    {
+        // Replay the current window so late accumulators start in sync
+        for (int i = 0; i < Count; i++)
+            accumulator.Add(this[i]);
+
+        int n = _accumulators.Length;
+        Array.Resize(ref _accumulators, n + 1);
+        _accumulators[n] = accumulator;
+        return accumulator;
+    }
+
+    public void Push(double value)
+    {
+        if (IsFull)
+        {
+            double oldest = _buffer[_next];
+            for (int i = 0; i < _accumulators.Length; i++)
+                _accumulators[i].RemoveOldest(oldest);
+        }
+        else
+        {
+            Count++;
+        }
+
+        _buffer[_next] = value;
+        _next = _next + 1 == _buffer.Length ? 0 : _next + 1;
+
+        for (int i = 0; i < _accumulators.Length; i++)
+            _accumulators[i].Add(value);
+    }
+
+    public void Reset()
+    {
+        Count = 0;
+        _next = 0;
+        for (int i = 0; i < _accumulators.Length; i++)
+            _accumulators[i].Reset();
+    }
+}
+```
+
+### Rolling Mean, Variance, Standard Deviation and Skew
+
+```csharp
+using System;
+
+public sealed class RollingMoments : IWindowAccumulator
+{
+    private long _n;
+    private double _mean;
+    private double _m2;
+    private double _m3;
+
+    public long Count => _n;
+    public double Mean => _n > 0 ? _mean : double.NaN;
+
+    // Population variance; use SampleVariance for the n - 1 estimator
+    public double Variance => _n > 0 ? Math.Max(_m2, 0) / _n : double.NaN;
+    public double SampleVariance => _n > 1 ? Math.Max(_m2, 0) / (_n - 1) : double.NaN;
+    public double StdDev => Math.Sqrt(Variance);
+
+    public double Skewness
+    {
+        get
+        {
+            if (_n < 3 || _m2 <= 0)
+                return double.NaN;
+            return Math.Sqrt(_n) * _m3 / Math.Pow(_m2, 1.5);
+        }
+    }
+
+    public double ZScore(double value)
+    {
+        double sd = StdDev;
+        return sd > 0 ? (value - _mean) / sd : 0;
+    }
+
+    public (double Lower, double Middle, double Upper) Bollinger(double deviations = 2.0)
+    {
+        double width = deviations * StdDev;
+        return (_mean - width, _mean, _mean + width);
+    }
+
+    public void Add(double value)
+    {
+        long n1 = _n;
+        _n++;
+        double delta = value - _mean;
+        double deltaN = delta / _n;
+        double term1 = delta * deltaN * n1;
+
+        _mean += deltaN;
+        _m3 += term1 * deltaN * (_n - 2) - 3 * deltaN * _m2;
+        _m2 += term1;
+    }
+
+    // Exact inverse of Add for a value that is in the window
+    public void RemoveOldest(double value)
+    {
+        if (_n <= 1)
+        {
+            Reset();
+            return;
+        }
+
+        long n = _n;
+        long n1 = n - 1;
+        double meanWithout = (n * _mean - value) / n1;
+        double delta = value - meanWithout;
+        double deltaN = delta / n;
+        double term1 = delta * deltaN * n1;
+
+        _m2 -= term1;
+        _m3 -= term1 * deltaN * (n - 2) - 3 * deltaN * _m2;
+        _mean = meanWithout;
+        _n = n1;
+    }
+
+    public void Reset()
+    {
+        _n = 0;
+        _mean = 0;
+        _m2 = 0;
+        _m3 = 0;
+    }
+}
+```
+
+In `RemoveOldest`, `_m2` is reduced first, because the `M3` update in `Add` used the value of `M2` from **before** the value was added.
+
+### Rolling Linear-Regression Slope
+
+The slope of a least-squares line through the window (x = 0 for the oldest value, x = n - 1 for the newest) needs `Σy` and `Σx·y`. When the oldest value leaves, every remaining value's x drops by one, which subtracts `Σy` from `Σx·y`, so the update is still O(1). Values are rebased on the first one seen to keep the sums small; the slope does not change when every y is shifted by the same amount.
+
+```csharp
+public sealed class RollingRegression : IWindowAccumulator
+{
+    private double _shift = double.NaN;
+    private long _n;
+    private CompensatedSum _sumY;
+    private CompensatedSum _sumXY;
+
+    public long Count => _n;
+
+    // Price change per sample along the fitted line
+    public double Slope
+    {
+        get
+        {
+            if (_n < 2)
+                return double.NaN;
+
+            double n = _n;
+            double sumX = n * (n - 1) / 2;
+            double sumXX = (n - 1) * n * (2 * n - 1) / 6;
+            return (n * _sumXY.Value - sumX * _sumY.Value) / (n * sumXX - sumX * sumX);
+        }
+    }
+
+    // Fitted value at the newest sample
+    public double EndValue
+    {
+        get
+        {
+            if (_n < 2)
+                return double.NaN;
+
+            double meanX = (_n - 1) / 2.0;
+            double meanY = _sumY.Value / _n;
+            return _shift + meanY + Slope * (_n - 1 - meanX);
+        }
+    }
+
+    public void Add(double value)
+    {
+        if (double.IsNaN(_shift))
+            _shift = value;
+
+        double y = value - _shift;
+        _sumXY.Add(_n * y);
+        _sumY.Add(y);
+        _n++;
+    }
+
+    public void RemoveOldest(double value)
+    {
+        double y = value - _shift;
+        _sumY.Add(-y);
+        _sumXY.Add(-_sumY.Value); // Every remaining x drops by one
+        _n--;
+    }
+
+    public void Reset()
+    {
+        _shift = double.NaN;
+        _n = 0;
+        _sumY.Reset();
+        _sumXY.Reset();
+    }
+}
+```
+
+`CompensatedSum` is the Neumaier summation struct from the streaming moving averages notes.
+
+### Replacing CalculateSignal with a Streaming Z-Score Signal
+
+The abstract `Indicator.CalculateSignal(double[] prices)` from the OOP notes can be kept for callers that pass a window, while the streaming version uses the shared window:
+
+```csharp
+public class MeanReversionSignal : Indicator
+{
+    private readonly RollingWindow _window;
+    private readonly RollingMoments _moments;
+    private readonly RollingRegression _trend;
+
+    public MeanReversionSignal(int period)
+    {
+        _window = new RollingWindow(period);
+        _moments = _window.Attach(new RollingMoments());
+        _trend = _window.Attach(new RollingRegression());
+    }
+
+    // O(1): push the newest price and read the statistics
+    public double Update(double price)
+    {
+        _window.Push(price);
+        if (!_window.IsFull)
+            return 0;
+
+        // Fade stretched moves, but not against a strong trend
+        double z = _moments.ZScore(price);
+        double trendPerStdDev = _trend.Slope * _window.Period / _moments.StdDev;
+        return Math.Abs(trendPerStdDev) > 1 ? 0 : -z;
+    }
+
+    public override double CalculateSignal(double[] prices)
+    {
+        _window.Reset();
+        double signal = 0;
+        foreach (double price in prices)
+            signal = Update(price);
+        return signal;
+    }
+}
+```
+
+### A Mean-Reversion cBot on Every Tick
+
+```csharp
+using cAlgo.API;
+
+namespace cAlgo
+{
+    [Robot(TimeZone = TimeZones.UTC, AccessRights = AccessRights.None)]
+    public class BollingerReversionBot : Robot
+    {
+        [Parameter("Period", DefaultValue = 20)]
+        public int Period { get; set; }
+
+        private RollingWindow window;
+        private RollingMoments moments;
+
+        protected override void OnStart()
+        {
+            window = new RollingWindow(Period);
+            moments = window.Attach(new RollingMoments());
+
+            for (int i = 0; i < Bars.Count - 1; i++)
+                window.Push(Bars.ClosePrices[i]);
+        }
+
+        protected override void OnBar()
+        {
+            window.Push(Bars.ClosePrices.Last(1));
+        }
+
+        protected override void OnTick()
+        {
+            if (!window.IsFull || Positions.Find("BB", SymbolName) != null)
+                return;
+
+            var (lower, middle, upper) = moments.Bollinger(2.0);
+
+            if (Symbol.Ask < lower)
+                ExecuteMarketOrder(TradeType.Buy, SymbolName, 1000, "BB", null, (middle - Symbol.Ask) / Symbol.PipSize);
+            else if (Symbol.Bid > upper)
+                ExecuteMarketOrder(TradeType.Sell, SymbolName, 1000, "BB", null, (Symbol.Bid - middle) / Symbol.PipSize);
+        }
+    }
+}
+```
+
+### Tips
+
+* **Population vs sample:** Bollinger Bands in cTrader use the population standard deviation (`Variance`). Use `SampleVariance` when you estimate volatility statistically.
+* **One window per series:** attach every calculator for the same symbol and timeframe to one `RollingWindow` so the buffer is stored and evicted once.
+* **Attach early:** attaching replays the current window into the new accumulator, which is O(period) once. Do it in `OnStart`.
+* **Very long runs:** removal is an exact inverse mathematically, but floating-point rounding still accumulates over millions of updates. If a bot runs for weeks on tick data, call `Reset` and re-push the window once a day, which costs O(period).
+
+By updating mean, variance, skew and regression slope in O(1) with Welford-style add and remove steps over one shared window, z-scores, Bollinger Bands and trend filters become cheap enough to evaluate on every tick.
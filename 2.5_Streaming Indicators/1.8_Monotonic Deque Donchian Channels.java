@@ -0,0 +1,254 @@
+In the namespaces notes, `MySimpleCBot.OnBar` checks `Symbol.Ask > Symbol.High[1]`, a breakout above the previous bar only. A Donchian breakout over N bars needs the highest high and lowest low of the last N bars, and computing them by scanning N highs and N lows on every bar (or every tick) is O(N) work each time. Breakout bots often watch several channels at once (a 20-bar entry channel, a 10-bar exit channel, a 55-bar filter), which multiplies the cost. A **monotonic deque** gives the rolling maximum or minimum in amortized O(1) per new bar, and several window lengths can be fed from one input stream.
+
+**How a Monotonic Deque Works:**
+
+For a rolling maximum over the last N values:
+
+* The deque stores `(index, value)` pairs whose values are **strictly decreasing** from front to back.
+* When a new value arrives, every entry at the back with a value less than or equal to it is removed, because it can never be the maximum again while the new value is in the window. Then the new value is appended.
+* Entries at the front whose index has left the window are removed.
+* The maximum of the window is always the front entry.
+
+Each value is appended once and removed at most once, so over a long run the cost is O(1) per value, even though a single update can remove several entries. For a rolling minimum the comparison is reversed. The deque never holds more than N entries, so it fits in a fixed-size circular array.
+
+**Code Sample (Monotonic Deque):**
+
+```csharp
+using System;
+
+public sealed class MonotonicDeque
+{
+    private readonly long[] _indices;
+    private readonly double[] _values;
+    private readonly bool _keepMax;
+    private int _head;
+    private int _count;
+
+    public MonotonicDeque(int window, bool keepMax)
+    {
+        if (window <= 0)
+            throw new ArgumentOutOfRangeException(nameof(window));
+
+        Window = window;
+        _indices = new long[window];
+        _values = new double[window];
+        _keepMax = keepMax;
+    }
+
+    public int Window { get; }
+
+    // Max (or min) of the values pushed in the last Window indices
+    public double Value => _count > 0 ? _values[_head] : double.NaN;
+    public long IndexOfValue => _count > 0 ? _indices[_head] : -1;
+
+    public void Push(long index, double value)
+    {
+        // Drop entries that the new value dominates
+        while (_count > 0)
+        {
+            int back = (_head + _count - 1) % Window;
+            bool dominated = _keepMax ? _values[back] <= value : _values[back] >= value;
+            if (!dominated)
+                break;
+            _count--;
+        }
+
+        // Drop the front entry once it has left the window
+        if (_count > 0 && _indices[_head] <= index - Window)
+        {
+            _head = (_head + 1) % Window;
+            _count--;
+        }
+
+        int slot = (_head + _count) % Window;
+        _indices[slot] = index;
+        _values[slot] = value;
+        _count++;
+    }
+
+    public void Reset()
+    {
+        _head = 0;
+        _count = 0;
+    }
+}
+```
+
+Indices increase by one per push, so at most one entry can leave the window per push and a single check of the front is enough. That also guarantees there is always a free slot for the new entry.
+
+**Code Sample (Several Channels Sharing One Stream):**
+
+`DonchianStream` owns the bar counter for one symbol and timeframe. Channels of any length are added up front; every closed bar is pushed once and fans out to each channel's pair of deques.
+
+```csharp
+using System;
+
+public sealed class DonchianChannel
+{
+    internal DonchianChannel(int period)
+    {
+        Period = period;
+        Highs = new MonotonicDeque(period, keepMax: true);
+        Lows = new MonotonicDeque(period, keepMax: false);
+    }
+
+    internal MonotonicDeque Highs { get; }
+    internal MonotonicDeque Lows { get; }
+    internal long BarsSeen;
+
+    public int Period { get; }
+    public bool IsReady => BarsSeen >= Period;
+    public double Upper => Highs.Value;
+    public double Lower => Lows.Value;
+    public double Middle => (Highs.Value + Lows.Value) / 2;
+
+    // How many bars ago the channel high was made (0 = last closed bar)
+    public long BarsSinceHigh(long lastIndex) => lastIndex - Highs.IndexOfValue;
+}
+
+public sealed class DonchianStream
+{
+    private DonchianChannel[] _channels = Array.Empty<DonchianChannel>();
+    private long _index = -1;
+
+    public long LastIndex => _index;
+
+    public DonchianChannel AddChannel(int period)
+    {
+        foreach (var existing in _channels)
+        {
+            if (existing.Period == period)
+                return existing;
+        }
+
+        var channel = new DonchianChannel(period);
+        Array.Resize(ref _channels, _channels.Length + 1);
+        _channels[^1] = channel;
+        return channel;
+    }
+
+    // Call once per closed bar
+    public void Push(double high, double low)
+    {
+        _index++;
+        for (int i = 0; i < _channels.Length; i++)
+        {
+            var channel = _channels[i];
+            channel.Highs.Push(_index, high);
+            channel.Lows.Push(_index, low);
+            channel.BarsSeen++;
+        }
+    }
+}
+```
+
+**Rewriting MySimpleCBot as a Donchian Breakout:**
+
+The bot compares the current price against the channel built from **closed** bars, so the forming bar can never raise the level it has to break. The check on every tick is two comparisons.
+
+```csharp
+using cAlgo.API;
+
+namespace cAlgo
+{
+    [Robot(TimeZone = TimeZones.UTC, AccessRights = AccessRights.None)]
+    public class MySimpleCBot : Robot
+    {
+        [Parameter("Entry Channel", DefaultValue = 20)]
+        public int EntryPeriod { get; set; }
+
+        [Parameter("Exit Channel", DefaultValue = 10)]
+        public int ExitPeriod { get; set; }
+
+        [Parameter("Volume", DefaultValue = 1000)]
+        public double Volume { get; set; }
+
+        private readonly DonchianStream donchian = new DonchianStream();
+        private DonchianChannel entry;
+        private DonchianChannel exit;
+
+        protected override void OnStart()
+        {
+            entry = donchian.AddChannel(EntryPeriod);
+            exit = donchian.AddChannel(ExitPeriod);
+
+            for (int i = 0; i < Bars.Count - 1; i++)
+                donchian.Push(Bars.HighPrices[i], Bars.LowPrices[i]);
+        }
+
+        protected override void OnBar()
+        {
+            var closed = Bars.Last(1);
+            donchian.Push(closed.High, closed.Low);
+        }
+
+        protected override void OnTick()
+        {
+            if (!entry.IsReady)
+                return;
+
+            var position = Positions.Find("Donchian", SymbolName);
+
+            if (position == null)
+            {
+                if (Symbol.Ask > entry.Upper)
+                    ExecuteMarketOrder(TradeType.Buy, SymbolName, Volume, "Donchian");
+                else if (Symbol.Bid < entry.Lower)
+                    ExecuteMarketOrder(TradeType.Sell, SymbolName, Volume, "Donchian");
+            }
+            else if (position.TradeType == TradeType.Buy && Symbol.Bid < exit.Lower)
+            {
+                ClosePosition(position);
+            }
+            else if (position.TradeType == TradeType.Sell && Symbol.Ask > exit.Upper)
+            {
+                ClosePosition(position);
+            }
+        }
+    }
+}
+```
+
+**Keltner-Style Channels:**
+
+A Keltner channel is a moving average plus or minus a multiple of ATR. Combining it with the streaming EMA and ATR engines and a Donchian filter gives a breakout that must clear both the volatility band and the recent range:
+
+```csharp
+public sealed class KeltnerDonchianFilter
+{
+    private readonly StreamingMovingAverage ema = StreamingMovingAverage.Create(MovingAverageKind.Exponential, 20);
+    private readonly StreamingAtr atr = new StreamingAtr(10);
+    private readonly DonchianStream stream = new DonchianStream();
+    private readonly DonchianChannel range;
+
+    public KeltnerDonchianFilter(int donchianPeriod)
+    {
+        range = stream.AddChannel(donchianPeriod);
+    }
+
+    public void OnBarClosed(double high, double low, double close)
+    {
+        ema.Update(close);
+        atr.Update(high, low, close);
+        stream.Push(high, low);
+    }
+
+    public bool IsLongBreakout(double ask, double multiplier = 2.0)
+    {
+        if (!ema.IsReady || !atr.IsReady || !range.IsReady)
+            return false;
+
+        double keltnerUpper = ema.Value + multiplier * atr.Value;
+        return ask > keltnerUpper && ask > range.Upper;
+    }
+}
+```
+
+**Tips:**
+
+* **Push closed bars, test live prices:** push `Bars.Last(1)` in `OnBar` and compare `Symbol.Ask`/`Symbol.Bid` against the channel in `OnTick`.
+* **Fixed memory:** each channel holds two arrays of `period` entries; nothing is allocated after `AddChannel`.
+* **Register channels in `OnStart`:** a channel added later only sees bars pushed after it was added, and is not ready until it has seen `period` of them.
+* **Batch history:** for backtests over long histories, `BatchIndicators.RollingMax` and `RollingMin` compute whole channel series at once and give the same values.
+
+By keeping rolling highs and lows in monotonic deques, highest-high and lowest-low queries cost amortized O(1) per bar, and several channel lengths for Donchian and Keltner-style breakout bots are fed from a single pass over the bars.
@@ -0,0 +1,494 @@
+In the context of developing for cTrader using .NET 6 and C# 10, every `OnStart` in these notes rebuilds indicator state from history: the streaming moving averages, ATR and RSI push every closed bar, and the rolling windows re-push their prices. One bot does that quickly, but restarting 50 bots after a deploy means every bot loads and replays its whole history at the same time, and the warm-up takes minutes. The streaming engines keep all their state in a few fields and arrays, so that state can be written to a small binary **snapshot** in `OnStop` and read back in `OnStart`. The bot then only has to replay the bars that closed while it was stopped.
+
+### What Goes Into a Snapshot
+
+Only the state needed to continue exactly where the bot stopped:
+
+* **Windows:** the circular buffers of the SMA, WMA and `RollingWindow`, plus their write positions.
+* **Running sums:** the `CompensatedSum` values, including their compensation terms, so the restored sums are bit-for-bit the same as before the restart.
+* **Smoothing state:** the EMA value and seed, Wilder's ATR value and previous close, and the RSI average gains and losses.
+* **Counters:** `Count` for every engine, so warm-up state (`IsReady`) survives the restart.
+
+The file header records the symbol, timeframe, open time and close of the last bar pushed into the engines. On restore, that bar must still exist in the loaded history with the same close. Otherwise the history was revised (or is too short) and the bot falls back to a full rebuild.
+
+### The Snapshot Contract
+
+Every engine that can be saved implements `ISnapshotState`. The tag identifies the engine type, so a snapshot written by a different indicator set is rejected instead of being read into the wrong fields.
+
+```csharp
+using System.IO;
+
+public enum SnapshotTag : byte
+{
+    Sma = 1,
+    Ema = 2,
+    Wma = 3,
+    Atr = 4,
+    RsiBank = 5,
+    RollingWindow = 6
+}
+
+public interface ISnapshotState
+{
+    SnapshotTag Tag { get; }
+    void WriteState(BinaryWriter writer);
+    void ReadState(BinaryReader reader);
+    void Reset();
+}
+```
+
+`CompensatedSum` is a struct with private fields, so it gets two small members to write and read both halves:
+
+```csharp
+// Added to CompensatedSum
+public void WriteTo(BinaryWriter writer)
+{
+    writer.Write(_sum);
+    writer.Write(_compensation);
+}
+
+public void ReadFrom(BinaryReader reader)
+{
+    _sum = reader.ReadDouble();
+    _compensation = reader.ReadDouble();
+}
+```
+
+### Saving the Moving Averages
+
+The base class writes the fields every moving average has and checks on restore that the period matches. Each concrete average only writes its own fields.
+
+```csharp
+using System.IO;
+
+public abstract class StreamingMovingAverage : ISnapshotState
+{
+    // ... existing members from the streaming moving averages notes ...
+
+    public abstract SnapshotTag Tag { get; }
+
+    public void WriteState(BinaryWriter writer)
+    {
+        writer.Write(Period);
+        writer.Write(Count);
+        writer.Write(Value);
+        WriteCore(writer);
+    }
+
+    public void ReadState(BinaryReader reader)
+    {
+        int period = reader.ReadInt32();
+        if (period != Period)
+            throw new InvalidDataException($"Snapshot period {period} does not match {Period}.");
+
+        long count = reader.ReadInt64();
+        if (count < 0)
+            throw new InvalidDataException($"Snapshot count {count} is negative.");
+
+        Count = count;
+        Value = reader.ReadDouble();
+        ReadCore(reader);
+    }
+
+    protected abstract void WriteCore(BinaryWriter writer);
+    protected abstract void ReadCore(BinaryReader reader);
+
+    // The window's write position: Count while warming up, any slot once the window is full
+    protected int ReadWindowIndex(BinaryReader reader)
+    {
+        int next = reader.ReadInt32();
+        if (next < 0 || next >= Period || (!IsReady && next != Count))
+            throw new InvalidDataException($"Snapshot window index {next} is invalid for period {Period} after {Count} values.");
+        return next;
+    }
+}
+```
+
+```csharp
+// Added to StreamingSma
+public override SnapshotTag Tag => SnapshotTag.Sma;
+
+protected override void WriteCore(BinaryWriter writer)
+{
+    _sum.WriteTo(writer);
+    writer.Write(_next);
+    writer.Write(_sinceResync);
+    foreach (double price in _window)
+        writer.Write(price);
+}
+
+protected override void ReadCore(BinaryReader reader)
+{
+    _sum.ReadFrom(reader);
+    _next = ReadWindowIndex(reader);
+
+    int sinceResync = reader.ReadInt32();
+    if (sinceResync < 0 || sinceResync >= ResyncInterval)
+        throw new InvalidDataException($"Snapshot resync counter {sinceResync} is out of range.");
+    _sinceResync = sinceResync;
+
+    for (int i = 0; i < _window.Length; i++)
+        _window[i] = reader.ReadDouble();
+}
+
+// Added to StreamingEma
+public override SnapshotTag Tag => SnapshotTag.Ema;
+
+protected override void WriteCore(BinaryWriter writer) => _seed.WriteTo(writer);
+
+protected override void ReadCore(BinaryReader reader) => _seed.ReadFrom(reader);
+
+// Added to StreamingWma
+public override SnapshotTag Tag => SnapshotTag.Wma;
+
+protected override void WriteCore(BinaryWriter writer)
+{
+    _sum.WriteTo(writer);
+    _weightedSum.WriteTo(writer);
+    writer.Write(_next);
+    foreach (double price in _window)
+        writer.Write(price);
+}
+
+protected override void ReadCore(BinaryReader reader)
+{
+    _sum.ReadFrom(reader);
+    _weightedSum.ReadFrom(reader);
+    _next = ReadWindowIndex(reader);
+    for (int i = 0; i < _window.Length; i++)
+        _window[i] = reader.ReadDouble();
+}
+```
+
+### Saving ATR, RSI and Rolling Windows
+
+```csharp
+// Added to StreamingAtr (which now implements ISnapshotState)
+public SnapshotTag Tag => SnapshotTag.Atr;
+
+public void WriteState(BinaryWriter writer)
+{
+    writer.Write(Period);
+    writer.Write(Count);
+    writer.Write(Value);
+    writer.Write(LastTrueRange);
+    writer.Write(_previousClose);
+    writer.Write(_trSum);
+}
+
+public void ReadState(BinaryReader reader)
+{
+    int period = reader.ReadInt32();
+    if (period != Period)
+        throw new InvalidDataException($"Snapshot period {period} does not match {Period}.");
+
+    long count = reader.ReadInt64();
+    if (count < 0)
+        throw new InvalidDataException($"Snapshot count {count} is negative.");
+
+    Count = count;
+    Value = reader.ReadDouble();
+    LastTrueRange = reader.ReadDouble();
+    _previousClose = reader.ReadDouble();
+    _trSum = reader.ReadDouble();
+}
+```
+
+The RSI bank saves every tracked period in one record. The periods must be tracked in `OnStart` **before** the restore, in the same order, so the handles returned by `Track` point at the restored slots.
+
+```csharp
+// Added to RsiBank (which now implements ISnapshotState)
+public SnapshotTag Tag => SnapshotTag.RsiBank;
+
+public void WriteState(BinaryWriter writer)
+{
+    writer.Write(_previousClose);
+    writer.Write(_periods.Length);
+    for (int i = 0; i < _periods.Length; i++)
+    {
+        writer.Write(_periods[i]);
+        writer.Write(_count[i]);
+        writer.Write(_avgGain[i]);
+        writer.Write(_avgLoss[i]);
+        writer.Write(_value[i]);
+    }
+}
+
+public void ReadState(BinaryReader reader)
+{
+    _previousClose = reader.ReadDouble();
+    int periods = reader.ReadInt32();
+    if (periods != _periods.Length)
+        throw new InvalidDataException($"Snapshot tracks {periods} RSI periods, the bank tracks {_periods.Length}.");
+
+    for (int i = 0; i < periods; i++)
+    {
+        int period = reader.ReadInt32();
+        if (period != _periods[i])
+            throw new InvalidDataException($"Snapshot RSI period {period} does not match {_periods[i]}.");
+
+        long count = reader.ReadInt64();
+        if (count < 0)
+            throw new InvalidDataException($"Snapshot count {count} for RSI period {period} is negative.");
+
+        _count[i] = count;
+        _avgGain[i] = reader.ReadDouble();
+        _avgLoss[i] = reader.ReadDouble();
+        _value[i] = reader.ReadDouble();
+    }
+}
+
+public void Reset()
+{
+    _previousClose = double.NaN;
+    Array.Clear(_count, 0, _count.Length);
+    Array.Clear(_avgGain, 0, _avgGain.Length);
+    Array.Clear(_avgLoss, 0, _avgLoss.Length);
+    Array.Fill(_value, double.NaN);
+}
+```
+
+A `RollingWindow` only saves its values. On restore it re-pushes them, which rebuilds every attached accumulator (moments, regression) exactly as a fresh window would. That costs O(period) once and means the accumulators need no snapshot code of their own.
+
+```csharp
+// Added to RollingWindow (which now implements ISnapshotState)
+public SnapshotTag Tag => SnapshotTag.RollingWindow;
+
+public void WriteState(BinaryWriter writer)
+{
+    writer.Write(Period);
+    writer.Write(Count);
+    for (int i = 0; i < Count; i++)
+        writer.Write(this[i]); // Oldest to newest
+}
+
+public void ReadState(BinaryReader reader)
+{
+    int period = reader.ReadInt32();
+    if (period != Period)
+        throw new InvalidDataException($"Snapshot period {period} does not match {Period}.");
+
+    int count = reader.ReadInt32();
+    if (count < 0 || count > Period)
+        throw new InvalidDataException($"Snapshot window holds {count} values for period {Period}.");
+
+    Reset();
+    for (int i = 0; i < count; i++)
+        Push(reader.ReadDouble());
+}
+```
+
+### The Snapshot File
+
+`IndicatorSnapshot` holds the engines of one bot in a fixed order and writes them after a small header:
+
+| Field | Type |
+|---|---|
+| Magic `"ISNP"` | `int` |
+| Version | `int` |
+| Symbol name, timeframe | `string`, `string` |
+| Last pushed bar: open time (UTC ticks), close | `long`, `double` |
+| Engine count | `int` |
+| Per engine: tag, then its state | `byte`, ... |
+
+A snapshot of a few EMAs, an ATR and an RSI bank is a few hundred bytes; SMA and WMA windows add 8 bytes per period.
+
+```csharp
+using System;
+using System.Collections.Generic;
+using System.IO;
+
+public sealed class IndicatorSnapshot
+{
+    private const int Magic = 0x504E5349; // "ISNP"
+    private const int Version = 1;
+
+    private readonly List<ISnapshotState> _states = new List<ISnapshotState>();
+
+    public IndicatorSnapshot Add(ISnapshotState state)
+    {
+        _states.Add(state);
+        return this;
+    }
+
+    public void Save(string path, string symbolName, string timeframe, DateTime lastBarOpenTime, double lastBarClose)
+    {
+        Directory.CreateDirectory(Path.GetDirectoryName(path));
+
+        // Write to a temporary file and swap it in, so a crash never leaves half a snapshot behind
+        string temporary = path + ".tmp";
+        using (var stream = new FileStream(temporary, FileMode.Create, FileAccess.Write, FileShare.None, 64 * 1024))
+        using (var writer = new BinaryWriter(stream))
+        {
+            writer.Write(Magic);
+            writer.Write(Version);
+            writer.Write(symbolName);
+            writer.Write(timeframe);
+            writer.Write(lastBarOpenTime.ToUniversalTime().Ticks);
+            writer.Write(lastBarClose);
+            writer.Write(_states.Count);
+
+            foreach (var state in _states)
+            {
+                writer.Write((byte)state.Tag);
+                state.WriteState(writer);
+            }
+        }
+
+        File.Move(temporary, path, overwrite: true);
+    }
+
+    // Returns false (with every engine reset) if there is no usable snapshot
+    public bool TryRestore(string path, string symbolName, string timeframe, out DateTime lastBarOpenTime, out double lastBarClose)
+    {
+        lastBarOpenTime = default;
+        lastBarClose = double.NaN;
+
+        if (!File.Exists(path))
+            return false;
+
+        try
+        {
+            using var stream = new FileStream(path, FileMode.Open, FileAccess.Read, FileShare.Read, 64 * 1024);
+            using var reader = new BinaryReader(stream);
+
+            if (reader.ReadInt32() != Magic || reader.ReadInt32() != Version)
+                throw new InvalidDataException("Not an indicator snapshot of this version.");
+            if (reader.ReadString() != symbolName || reader.ReadString() != timeframe)
+                throw new InvalidDataException("Snapshot belongs to a different symbol or timeframe.");
+
+            lastBarOpenTime = new DateTime(reader.ReadInt64(), DateTimeKind.Utc);
+            lastBarClose = reader.ReadDouble();
+
+            if (reader.ReadInt32() != _states.Count)
+                throw new InvalidDataException("Snapshot holds a different set of indicators.");
+
+            foreach (var state in _states)
+            {
+                var tag = (SnapshotTag)reader.ReadByte();
+                if (tag != state.Tag)
+                    throw new InvalidDataException($"Expected {state.Tag}, found {tag}.");
+
+                state.ReadState(reader);
+            }
+
+            return true;
+        }
+        catch (Exception ex) when (ex is IOException || ex is InvalidDataException)
+        {
+            // A partly read snapshot leaves engines in a mixed state; start clean instead
+            ResetAll();
+            return false;
+        }
+    }
+
+    public void ResetAll()
+    {
+        foreach (var state in _states)
+            state.Reset();
+    }
+}
+```
+
+`EndOfStreamException` (a truncated file) derives from `IOException`, so it is covered by the same filter.
+
+### Restoring in OnStart and Saving in OnStop
+
+The bot registers its engines once, tries the snapshot, and replays only the closed bars after the last one that was pushed before the restart. If the snapshot is missing, stale, or the broker's history changed, it replays everything as before.
+
+```csharp
+using System;
+using System.IO;
+using cAlgo.API;
+
+namespace cAlgo
+{
+    [Robot(TimeZone = TimeZones.UTC, AccessRights = AccessRights.FileSystem)]
+    public class SnapshotTrendBot : Robot
+    {
+        [Parameter("Instance", DefaultValue = "Trend-1")]
+        public string Instance { get; set; }
+
+        private readonly StreamingMovingAverage fast = StreamingMovingAverage.Create(MovingAverageKind.Exponential, 20);
+        private readonly StreamingMovingAverage slow = StreamingMovingAverage.Create(MovingAverageKind.Simple, 200);
+        private readonly StreamingAtr atr = new StreamingAtr(14);
+        private readonly RsiBank rsiBank = new RsiBank();
+        private readonly IndicatorSnapshot snapshot = new IndicatorSnapshot();
+        private Rsi rsi;
+        private int lastPushed = -1;
+        private string snapshotPath;
+
+        protected override void OnStart()
+        {
+            // Track every RSI period before restoring
+            rsi = rsiBank.Track(14);
+            snapshot.Add(fast).Add(slow).Add(atr).Add(rsiBank);
+
+            snapshotPath = Path.Combine(
+                Environment.GetFolderPath(Environment.SpecialFolder.MyDocuments),
+                "cAlgo", "Snapshots", $"{Instance}-{SymbolName}-{TimeFrame}.isnp");
+
+            int first = 0;
+            if (snapshot.TryRestore(snapshotPath, SymbolName, TimeFrame.ToString(), out var lastTime, out var lastClose))
+            {
+                int index = Bars.OpenTimes.GetIndexByExactTime(lastTime);
+
+                // The close is compared exactly: it was written from the same feed value
+                if (index >= 0 && index < Bars.Count - 1 && Bars.ClosePrices[index] == lastClose)
+                    first = index + 1;
+                else
+                    snapshot.ResetAll();
+            }
+
+            for (int i = first; i < Bars.Count - 1; i++)
+                Push(i);
+
+            Print(first > 0
+                ? $"Restored from snapshot, replayed {Bars.Count - 1 - first} missed bars"
+                : $"No usable snapshot, rebuilt from {Bars.Count - 1} bars");
+        }
+
+        protected override void OnBar()
+        {
+            Push(Bars.Count - 2);
+
+            if (!slow.IsReady || !rsi.IsReady || Positions.Find("Trend", SymbolName) != null)
+                return;
+
+            if (fast.Value > slow.Value && rsi.Value < 70)
+                ExecuteMarketOrder(TradeType.Buy, SymbolName, 1000, "Trend", 2 * atr.Value / Symbol.PipSize, null);
+        }
+
+        protected override void OnStop()
+        {
+            if (lastPushed < 0)
+                return;
+
+            snapshot.Save(snapshotPath, SymbolName, TimeFrame.ToString(),
+                Bars.OpenTimes[lastPushed], Bars.ClosePrices[lastPushed]);
+        }
+
+        private void Push(int index)
+        {
+            double close = Bars.ClosePrices[index];
+            fast.Update(close);
+            slow.Update(close);
+            atr.Update(Bars.HighPrices[index], Bars.LowPrices[index], close);
+            rsiBank.Update(close);
+            lastPushed = index;
+        }
+    }
+}
+```
+
+### Things to Keep in Mind
+
+* **Same engines, same order:** the snapshot is matched by position, tag and period. Changing a bot's parameters (a different EMA period) makes the restore fail safely and the bot rebuilds from history once.
+* **Push only closed bars:** the forming bar is never pushed, so the snapshot always ends on a closed bar that can be found again with `GetIndexByExactTime`.
+* **One file per instance:** include an instance name in the path when several copies of a bot run on the same symbol and timeframe.
+* **Indices are checked on read:** counts, window positions and the SMA resync counter are validated before they are used, so a damaged file fails with `InvalidDataException` and the bot rebuilds from history instead of indexing outside a window.
+* **Bump the version:** when an engine's saved fields change, increase `Version` so old files are rejected rather than misread.
+* **Save periodically too:** `OnStop` does not run if the process is killed. Calling `Save` from `OnBar` every few hundred bars (it takes microseconds) limits the replay after a crash.
+* **Access rights:** writing files needs `AccessRights.FileSystem` on the robot attribute.
+
+By writing the windows, compensated sums and smoothing state of the streaming engines to a compact binary snapshot and replaying only the bars missed since, a restart costs one small file read plus a handful of bar updates per bot, instead of a full warm-up from history.
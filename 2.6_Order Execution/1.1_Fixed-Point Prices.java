@@ -0,0 +1,223 @@
+Every sample in these notes stores prices as `double`: `bidPrice`, `askPrice`, `stopLossLevel = bidPrice - Symbol.PipValue * 100`. Binary floating point cannot represent most decimal prices exactly (`1.1` is really `1.100000000000000088817841970012523...`), so `price == triggerPrice` can be false for two prices that print the same, and sums of many price differences drift. For matching, order triggers, book levels and P&L, the usual solution in C# 10 (.NET 6) is a **fixed-point** price: an integer count of the symbol's smallest price increment.
+
+### Pipettes and Digits
+
+* `Symbol.Digits` is the number of decimals the symbol is quoted with: 5 for EURUSD, 3 for USDJPY, 2 for XAUUSD.
+* One unit of the last digit is a **pipette** (a point): `10^-Digits`. EURUSD at `1.08457` is `108457` pipettes.
+* A **pip** is `Symbol.PipSize`, usually 10 pipettes for FX (`0.0001` for EURUSD, `0.01` for USDJPY).
+
+A price stored as a `long` number of pipettes is exact, compares with a single integer instruction, and adds and subtracts without rounding error. Conversions to and from `double` happen only at the edges: when a tick arrives and when an order is sent to the platform.
+
+Note that the original `stopLossLevel = bidPrice - Symbol.PipValue * 100` mixes units: `PipValue` is the **monetary** value of one pip, not its size. With fixed-point pips the intent (100 pips below the bid) is written explicitly and cannot be confused.
+
+### The Price Scale
+
+Every symbol has its own scale, built once from the symbol's digits, pip size and tick size and stored per symbol id.
+
+```csharp
+using System;
+
+public sealed class PriceScale
+{
+    private static readonly long[] PowersOfTen =
+    {
+        1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000
+    };
+
+    public PriceScale(int digits, double pipSize, double tickSize)
+    {
+        if (digits < 0 || digits >= PowersOfTen.Length)
+            throw new ArgumentOutOfRangeException(nameof(digits));
+
+        Digits = digits;
+        UnitsPerPrice = PowersOfTen[digits];
+        PipettesPerPip = ToPipettes(pipSize);
+        PipettesPerTick = Math.Max(1, ToPipettes(tickSize));
+    }
+
+    public int Digits { get; }
+    public long UnitsPerPrice { get; }
+    public long PipettesPerPip { get; }
+    public long PipettesPerTick { get; }
+
+    public static PriceScale Of(cAlgo.API.Symbol symbol) => new PriceScale(symbol.Digits, symbol.PipSize, symbol.TickSize);
+
+    // Rounds to the nearest pipette; quotes from the platform are already on the grid
+    public long ToPipettes(double price) => (long)Math.Round(price * UnitsPerPrice, MidpointRounding.AwayFromZero);
+
+    public FixedPrice ToFixed(double price) => new FixedPrice(ToPipettes(price));
+
+    public double ToDouble(FixedPrice price) => (double)price.Pipettes / UnitsPerPrice;
+
+    public long Pips(double pips) => (long)Math.Round(pips * PipettesPerPip, MidpointRounding.AwayFromZero);
+
+    public double ToPips(long pipettes) => (double)pipettes / PipettesPerPip;
+
+    // Snaps a price to the symbol's tick grid (e.g. 0.25 for some indices)
+    public FixedPrice RoundToTick(FixedPrice price)
+    {
+        long ticks = Math.DivRem(price.Pipettes, PipettesPerTick, out long remainder);
+        if (remainder * 2 >= PipettesPerTick)
+            ticks++;
+        return new FixedPrice(ticks * PipettesPerTick);
+    }
+
+    public string Format(FixedPrice price) => ToDouble(price).ToString("F" + Digits);
+}
+```
+
+### The Fixed-Point Price Type
+
+`FixedPrice` is a `readonly struct` around a single `long`, so it is as cheap to copy and compare as the `long` itself. It deliberately has no implicit conversion from `double`: every conversion goes through the symbol's `PriceScale`, so a price can never be interpreted with the wrong number of digits.
+
+```csharp
+using System;
+
+public readonly struct FixedPrice : IEquatable<FixedPrice>, IComparable<FixedPrice>
+{
+    public FixedPrice(long pipettes)
+    {
+        Pipettes = pipettes;
+    }
+
+    public long Pipettes { get; }
+
+    public static FixedPrice Zero => default;
+
+    public static FixedPrice operator +(FixedPrice price, long pipettes) => new FixedPrice(price.Pipettes + pipettes);
+    public static FixedPrice operator -(FixedPrice price, long pipettes) => new FixedPrice(price.Pipettes - pipettes);
+    public static long operator -(FixedPrice left, FixedPrice right) => left.Pipettes - right.Pipettes;
+
+    public static bool operator ==(FixedPrice left, FixedPrice right) => left.Pipettes == right.Pipettes;
+    public static bool operator !=(FixedPrice left, FixedPrice right) => left.Pipettes != right.Pipettes;
+    public static bool operator <(FixedPrice left, FixedPrice right) => left.Pipettes < right.Pipettes;
+    public static bool operator >(FixedPrice left, FixedPrice right) => left.Pipettes > right.Pipettes;
+    public static bool operator <=(FixedPrice left, FixedPrice right) => left.Pipettes <= right.Pipettes;
+    public static bool operator >=(FixedPrice left, FixedPrice right) => left.Pipettes >= right.Pipettes;
+
+    public static FixedPrice Mid(FixedPrice bid, FixedPrice ask) => new FixedPrice((bid.Pipettes + ask.Pipettes) / 2);
+
+    public bool Equals(FixedPrice other) => Pipettes == other.Pipettes;
+    public override bool Equals(object obj) => obj is FixedPrice other && Equals(other);
+    public override int GetHashCode() => Pipettes.GetHashCode();
+    public int CompareTo(FixedPrice other) => Pipettes.CompareTo(other.Pipettes);
+    public override string ToString() => Pipettes + " pipettes";
+}
+```
+
+Subtracting two prices gives a plain `long` distance in pipettes, and adding a `long` distance to a price gives a price. That mirrors how prices and offsets are used in trading logic and stops accidental "price + price" arithmetic.
+
+### Exact P&L
+
+P&L in pipettes times volume in units is an exact integer. It is converted to money only once, with the symbol's tick value:
+
+```csharp
+using System;
+
+public static class FixedPnl
+{
+    // Profit in "pipette-units" (price distance x volume), exact
+    public static long PipetteUnits(bool isBuy, FixedPrice entry, FixedPrice exit, long volumeInUnits)
+    {
+        long move = isBuy ? exit - entry : entry - exit;
+        return checked(move * volumeInUnits);
+    }
+
+    // Converts to account currency once, at the edge
+    public static double ToMoney(long pipetteUnits, PriceScale scale, double tickValue) =>
+        (double)pipetteUnits / scale.PipettesPerTick * tickValue;
+}
+```
+
+`checked` turns an overflow into an exception instead of a silently wrong number. A `long` holds about 9.2e18, so the product only overflows beyond, for example, a move of about 9.2e9 pipettes on a billion units (92,000 price units at five digits), far beyond any real position.
+
+### Using Fixed-Point Prices in MyTradingBot
+
+The bot converts the bid and ask once per update and keeps all decision logic in pipettes. The stop loss is expressed as an exact distance and handed to the platform in pips.
+
+```csharp
+using cAlgo.API;
+
+namespace cAlgo
+{
+    [Robot(TimeZone = TimeZones.UTC, AccessRights = AccessRights.None)]
+    public class MyTradingBot : Robot
+    {
+        private PriceScale scale;
+        private FixedPrice bidPrice;
+        private FixedPrice askPrice;
+        private FixedPrice triggerLevel;
+        private long stopLossDistance;
+
+        protected override void OnStart()
+        {
+            scale = PriceScale.Of(Symbol);
+            triggerLevel = scale.ToFixed(Bars.HighPrices.Maximum(20));
+            stopLossDistance = scale.Pips(100); // 100 pips, exactly
+
+            Symbols.SubscribeMarketData(Symbol, MarketDataUpdate);
+        }
+
+        private void MarketDataUpdate(MarketDataEventArgs args)
+        {
+            // The only double -> fixed conversions on the hot path
+            bidPrice = scale.ToFixed(args.Bid);
+            askPrice = scale.ToFixed(args.Ask);
+
+            // Exact integer comparison: no epsilon, no "1.08460000000001 > 1.0846" surprises
+            if (askPrice >= triggerLevel)
+            {
+                FixedPrice stopLossLevel = bidPrice - stopLossDistance;
+                double stopLossPips = scale.ToPips(askPrice - stopLossLevel);
+
+                ExecuteMarketOrder(TradeType.Buy, SymbolName, 1000, "Breakout", stopLossPips, null);
+                triggerLevel = askPrice + scale.Pips(50); // Re-arm 50 pips higher
+            }
+        }
+
+        protected override void OnStop()
+        {
+            long totalPipetteUnits = 0;
+            foreach (var position in History.FindAll("Breakout", SymbolName))
+            {
+                totalPipetteUnits += FixedPnl.PipetteUnits(
+                    position.TradeType == TradeType.Buy,
+                    scale.ToFixed(position.EntryPrice),
+                    scale.ToFixed(position.ClosingPrice),
+                    (long)position.VolumeInUnits);
+            }
+
+            Print("Gross P&L: {0:F2} {1}", FixedPnl.ToMoney(totalPipetteUnits, scale, Symbol.TickValue), Account.Asset.Name);
+        }
+    }
+}
+```
+
+### Per-Symbol Scales by Id
+
+With many symbols, keep the scales in an array indexed by the interned symbol id, next to the `PriceTable`:
+
+```csharp
+public sealed class PriceScaleTable
+{
+    private readonly PriceScale[] _scales;
+
+    public PriceScaleTable(SymbolRegistry registry)
+    {
+        _scales = new PriceScale[registry.MaxSymbols];
+    }
+
+    public void Register(int symbolId, cAlgo.API.Symbol symbol) => _scales[symbolId] = PriceScale.Of(symbol);
+
+    public PriceScale this[int symbolId] => _scales[symbolId];
+}
+```
+
+### Things to Keep in Mind
+
+* **Never compare fixed prices of different symbols:** 108457 pipettes of EURUSD and 108457 pipettes of USDJPY are different prices. Keep the symbol id next to every `FixedPrice` you store.
+* **Convert at the edges:** convert once when a tick arrives and once when calling the platform; in between, stay in pipettes.
+* **Round deliberately:** `ToPipettes` rounds to the nearest pipette, which is exact for platform quotes. For computed levels (e.g. a midpoint or an ATR multiple) decide explicitly whether to round up, down or to the tick grid with `RoundToTick`.
+* **Digits can differ between brokers:** build the `PriceScale` from the live `Symbol`, never from hard-coded digits.
+
+By representing prices as a `long` count of pipettes with per-symbol scales, equality and ordering become exact integer operations, order triggers and book levels can be compared without epsilons, and P&L is computed exactly before a single conversion to account currency.
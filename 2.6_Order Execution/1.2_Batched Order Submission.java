@@ -0,0 +1,398 @@
+In the asynchronous programming notes, `ExecuteMultipleTradesAsync` fires 20 independent `ExecuteMarketOrderAsync` calls at once, and `TradeService.SendAllAsync(tradeRequests)` is only sketched as a hypothetical API. Firing every order at the same instant works for a handful of trades. A strategy that opens legs on 20 or more markets at once, possibly from several threads, runs into the broker's request rate limit and gets some legs rejected. This note builds the missing `TradeService`: a submission pipeline that coalesces concurrent `TradeRequest`s into batches, throttles them with a **token bucket** sized to the broker's limit, and returns one result per request in the order the requests were given.
+
+### How the Pipeline Works
+
+* **Queue:** `SendAsync` and `SendAllAsync` can be called from any thread. Each request is written to an unbounded `Channel` together with a `TaskCompletionSource` for its result.
+* **Batching:** a single dispatcher task drains the channel. Everything that has queued up since the last round (up to `MaxBatchSize`) becomes one batch, so 20 requests sent together are handled together.
+* **Throttling:** before a batch is submitted, the dispatcher takes one token per order from the token bucket. If the bucket has fewer tokens than the batch needs, the available part goes out immediately and the rest waits for the bucket to refill.
+* **One main-thread hop per batch:** cTrader's trading API must be called on the robot's thread. The whole batch is handed over with a single `BeginInvokeOnMainThread` call, which calls `ExecuteMarketOrderAsync` for each order.
+* **Results in order:** each order's callback completes its own task. `SendAllAsync` awaits the tasks with `Task.WhenAll`, which returns results in the same order as the requests, whatever order the fills arrive in.
+* **Stopping discards the queue:** once the robot stops, cTrader no longer runs `BeginInvokeOnMainThread` callbacks, so queued orders could never be sent. `DisposeAsync` stops the dispatcher and cancels the task of every request that has no result yet.
+
+### Requests, Results and Options
+
+```csharp
+using System;
+using cAlgo.API;
+
+public sealed record TradeRequest
+{
+    public string Symbol { get; init; }
+    public double Volume { get; init; } // In units, see Symbol.QuantityToVolumeInUnits
+    public TradeType Type { get; init; }
+    public string Label { get; init; } = "TradeService";
+    public double? StopLossPips { get; init; }
+    public double? TakeProfitPips { get; init; }
+}
+
+public readonly record struct TradeOutcome(TradeRequest Request, bool Success, Position Position, ErrorCode? Error)
+{
+    public static TradeOutcome From(TradeRequest request, TradeResult result) =>
+        new TradeOutcome(request, result.IsSuccessful, result.Position, result.Error);
+}
+
+public sealed class TradeServiceOptions
+{
+    // Match the broker's order rate limit, with some headroom
+    public double OrdersPerSecond { get; init; } = 20;
+    public int Burst { get; init; } = 20;
+    public int MaxBatchSize { get; init; } = 50;
+
+    // Optional wait after the first request of a batch so concurrent senders can join it
+    public TimeSpan Linger { get; init; } = TimeSpan.Zero;
+}
+```
+
+### The Token Bucket
+
+The bucket holds up to `Burst` tokens and refills continuously at `OrdersPerSecond`. Sending an order costs one token. Short bursts up to the bucket size go out at once, and the long-run rate never exceeds the limit. Only the dispatcher takes tokens, so the bucket needs no locking.
+
+```csharp
+using System;
+using System.Diagnostics;
+
+public sealed class TokenBucket
+{
+    private readonly double _capacity;
+    private readonly double _tokensPerTick;
+    private double _tokens;
+    private long _lastRefill;
+
+    public TokenBucket(double ratePerSecond, int burst)
+    {
+        if (ratePerSecond <= 0)
+            throw new ArgumentOutOfRangeException(nameof(ratePerSecond));
+        if (burst <= 0)
+            throw new ArgumentOutOfRangeException(nameof(burst));
+
+        RatePerSecond = ratePerSecond;
+        _capacity = burst;
+        _tokensPerTick = ratePerSecond / Stopwatch.Frequency;
+        _tokens = burst;
+        _lastRefill = Stopwatch.GetTimestamp();
+    }
+
+    public double RatePerSecond { get; }
+
+    // Takes up to `wanted` whole tokens; when none are available, reports how long until the next one
+    public int TryTake(int wanted, out TimeSpan wait)
+    {
+        Refill();
+
+        int granted = Math.Min(wanted, (int)_tokens);
+        if (granted > 0)
+        {
+            _tokens -= granted;
+            wait = TimeSpan.Zero;
+            return granted;
+        }
+
+        double seconds = (1 - _tokens) / RatePerSecond;
+        wait = TimeSpan.FromTicks((long)Math.Ceiling(seconds * TimeSpan.TicksPerSecond));
+        return 0;
+    }
+
+    private void Refill()
+    {
+        long now = Stopwatch.GetTimestamp();
+        _tokens = Math.Min(_capacity, _tokens + (now - _lastRefill) * _tokensPerTick);
+        _lastRefill = now;
+    }
+}
+```
+
+### The Trade Service
+
+```csharp
+using System;
+using System.Collections.Generic;
+using System.Threading;
+using System.Threading.Channels;
+using System.Threading.Tasks;
+using cAlgo.API;
+
+public sealed class TradeService : IAsyncDisposable
+{
+    private static readonly TimeSpan MinimumWait = TimeSpan.FromMilliseconds(1);
+
+    private readonly Robot _robot;
+    private readonly TradeServiceOptions _options;
+    private readonly TokenBucket _bucket;
+    private readonly Channel<PendingTrade> _queue;
+    private readonly CancellationTokenSource _stop = new CancellationTokenSource();
+    private readonly HashSet<PendingTrade> _outstanding = new HashSet<PendingTrade>(); // No result yet
+    private readonly Task _dispatcher;
+    private long _batches;
+    private long _submitted;
+
+    public TradeService(Robot robot, TradeServiceOptions options = null)
+    {
+        _robot = robot ?? throw new ArgumentNullException(nameof(robot));
+        _options = options ?? new TradeServiceOptions();
+        _bucket = new TokenBucket(_options.OrdersPerSecond, _options.Burst);
+        _queue = Channel.CreateUnbounded<PendingTrade>(new UnboundedChannelOptions { SingleReader = true });
+        _dispatcher = Task.Run(DispatchLoopAsync);
+    }
+
+    public long Batches => Interlocked.Read(ref _batches);
+    public long Submitted => Interlocked.Read(ref _submitted);
+
+    public Task<TradeOutcome> SendAsync(TradeRequest request)
+    {
+        if (request == null)
+            throw new ArgumentNullException(nameof(request));
+
+        var pending = new PendingTrade(request);
+        lock (_outstanding)
+            _outstanding.Add(pending);
+
+        if (!_queue.Writer.TryWrite(pending))
+        {
+            lock (_outstanding)
+                _outstanding.Remove(pending);
+            throw new InvalidOperationException("The trade service has been disposed.");
+        }
+
+        return pending.Completion.Task;
+    }
+
+    // Results come back in request order, whatever order the orders are filled in
+    public Task<TradeOutcome[]> SendAllAsync(IReadOnlyList<TradeRequest> requests)
+    {
+        var tasks = new Task<TradeOutcome>[requests.Count];
+        for (int i = 0; i < tasks.Length; i++)
+            tasks[i] = SendAsync(requests[i]);
+
+        return Task.WhenAll(tasks);
+    }
+
+    // Stops accepting requests and discards the rest: every request without a result is cancelled.
+    // Orders already sent to the server may still execute; check Positions after a restart.
+    // Does not need the robot's thread, so OnStop may wait for it.
+    public async ValueTask DisposeAsync()
+    {
+        _queue.Writer.TryComplete();
+        _stop.Cancel();
+
+        try
+        {
+            await _dispatcher.ConfigureAwait(false);
+        }
+        catch (OperationCanceledException)
+        {
+            // Expected: the dispatcher was waiting for requests or tokens
+        }
+
+        PendingTrade[] unfinished;
+        lock (_outstanding)
+        {
+            unfinished = new PendingTrade[_outstanding.Count];
+            _outstanding.CopyTo(unfinished);
+            _outstanding.Clear();
+        }
+
+        foreach (var trade in unfinished)
+            trade.Cancel();
+
+        _stop.Dispose();
+    }
+
+    private async Task DispatchLoopAsync()
+    {
+        var reader = _queue.Reader;
+        var batch = new List<PendingTrade>(_options.MaxBatchSize);
+        var token = _stop.Token;
+
+        while (await reader.WaitToReadAsync(token).ConfigureAwait(false))
+        {
+            if (_options.Linger > TimeSpan.Zero)
+                await Task.Delay(_options.Linger, token).ConfigureAwait(false);
+
+            while (batch.Count < _options.MaxBatchSize && reader.TryRead(out var pending))
+                batch.Add(pending);
+
+            int offset = 0;
+            while (offset < batch.Count)
+            {
+                int granted = _bucket.TryTake(batch.Count - offset, out var wait);
+                if (granted == 0)
+                {
+                    // Task.Delay rounds sub-millisecond waits down to zero, which would spin
+                    await Task.Delay(wait < MinimumWait ? MinimumWait : wait, token).ConfigureAwait(false);
+                    continue;
+                }
+
+                Submit(batch.GetRange(offset, granted).ToArray());
+                offset += granted;
+            }
+
+            batch.Clear();
+        }
+    }
+
+    private void Submit(PendingTrade[] trades)
+    {
+        Interlocked.Increment(ref _batches);
+        Interlocked.Add(ref _submitted, trades.Length);
+
+        // One hop to the robot's thread per batch instead of one per order
+        _robot.BeginInvokeOnMainThread(() =>
+        {
+            foreach (var trade in trades)
+            {
+                // Skip trades cancelled by DisposeAsync while the batch waited for this thread
+                if (!trade.TryMarkSent())
+                    continue;
+
+                var request = trade.Request;
+                try
+                {
+                    _robot.ExecuteMarketOrderAsync(request.Type, request.Symbol, request.Volume, request.Label,
+                        request.StopLossPips, request.TakeProfitPips,
+                        result =>
+                        {
+                            Forget(trade);
+                            trade.Completion.TrySetResult(TradeOutcome.From(request, result));
+                        });
+                }
+                catch (Exception ex)
+                {
+                    Forget(trade);
+                    trade.Completion.TrySetException(ex);
+                }
+            }
+        });
+    }
+
+    private void Forget(PendingTrade trade)
+    {
+        lock (_outstanding)
+            _outstanding.Remove(trade);
+    }
+
+    private sealed class PendingTrade
+    {
+        public PendingTrade(TradeRequest request)
+        {
+            Request = request;
+
+            // Keep awaiting code off the robot's thread, which runs the fill callbacks
+            Completion = new TaskCompletionSource<TradeOutcome>(TaskCreationOptions.RunContinuationsAsynchronously);
+        }
+
+        private const int Queued = 0, Sent = 1, Cancelled = 2;
+        private int _state;
+
+        public TradeRequest Request { get; }
+        public TaskCompletionSource<TradeOutcome> Completion { get; }
+
+        // Decides the race between the robot's thread sending the order and DisposeAsync cancelling it
+        public bool TryMarkSent() => Interlocked.CompareExchange(ref _state, Sent, Queued) == Queued;
+
+        public void Cancel()
+        {
+            Interlocked.CompareExchange(ref _state, Cancelled, Queued);
+            Completion.TrySetCanceled();
+        }
+    }
+}
+```
+
+Nothing is retried automatically. A failed market order may still have reached the broker (for example after a timeout), and resending it could open the position twice. The caller decides what to do with each failed `TradeOutcome`.
+
+### Opening 20 Markets in One Throttled Burst
+
+The request list is built on the robot's thread, because `Symbols.GetSymbol` is part of the robot API. `SendAllAsync` then returns one outcome per leg, in the order of the symbol list.
+
+```csharp
+using System;
+using System.Collections.Generic;
+using System.Linq;
+using System.Threading.Tasks;
+using cAlgo.API;
+
+namespace cAlgo.Robots
+{
+    [Robot(AccessRights = AccessRights.None)]
+    public class TwentyMarketBot : Robot
+    {
+        [Parameter("Symbols", DefaultValue = "EURUSD,GBPUSD,USDJPY,AUDUSD,USDCAD,USDCHF,NZDUSD,EURGBP,EURJPY,GBPJPY")]
+        public string SymbolList { get; set; }
+
+        [Parameter("Lots", DefaultValue = 0.01)]
+        public double Lots { get; set; }
+
+        [Parameter("Orders per Second", DefaultValue = 20)]
+        public double OrdersPerSecond { get; set; }
+
+        private TradeService tradeService;
+
+        protected override void OnStart()
+        {
+            tradeService = new TradeService(this, new TradeServiceOptions
+            {
+                OrdersPerSecond = OrdersPerSecond,
+                Burst = Math.Max(1, (int)OrdersPerSecond) // A rate below 1 would give an empty bucket
+            });
+
+            var tradeRequests = SymbolList.Split(',')
+                .Select(name => Symbols.GetSymbol(name.Trim()))
+                .Select(symbol => new TradeRequest
+                {
+                    Symbol = symbol.Name,
+                    Volume = symbol.QuantityToVolumeInUnits(Lots),
+                    Type = TradeType.Buy,
+                    Label = "Basket",
+                    StopLossPips = 50
+                })
+                .ToList();
+
+            _ = OpenAllLegsAsync(tradeRequests);
+        }
+
+        protected override void OnStop()
+        {
+            // Queued orders cannot be sent after OnStop, so their tasks are cancelled.
+            // Disposing does not need the robot's thread, so waiting here cannot deadlock.
+            tradeService.DisposeAsync().AsTask().GetAwaiter().GetResult();
+        }
+
+        private async Task OpenAllLegsAsync(IReadOnlyList<TradeRequest> tradeRequests)
+        {
+            try
+            {
+                var tradeResults = await tradeService.SendAllAsync(tradeRequests);
+
+                BeginInvokeOnMainThread(() =>
+                {
+                    foreach (var tradeResult in tradeResults)
+                    {
+                        if (tradeResult.Success)
+                            Print("{0}: position {1} opened", tradeResult.Request.Symbol, tradeResult.Position.Id);
+                        else
+                            Print("{0}: failed with {1}", tradeResult.Request.Symbol, tradeResult.Error);
+                    }
+
+                    Print("{0} orders in {1} batches", tradeService.Submitted, tradeService.Batches);
+                });
+            }
+            catch (Exception ex)
+            {
+                BeginInvokeOnMainThread(() => Print("Basket submission failed: {0}", ex.Message));
+            }
+        }
+    }
+}
+```
+
+With `Burst = 20` and 20 legs, all orders leave in one batch and one main-thread hop. With 40 legs, the first 20 go immediately and the rest follow at the configured rate instead of being rejected.
+
+### Things to Keep in Mind
+
+* **Volumes are in units:** `ExecuteMarketOrderAsync` expects units, not lots. Convert with `Symbol.QuantityToVolumeInUnits`, as the bot does above. The `Volume = 0.01` in the original sketch was in lots.
+* **Size the bucket below the limit:** other bots on the same account share the broker's limit. Give each `TradeService` its share, or share one service between the robots of a process.
+* **Linger trades latency for batch size:** with `Linger = 0`, a batch holds whatever was queued when the dispatcher woke up. A small linger (a few milliseconds) lets requests from several threads join one batch.
+* **Await results, do not block on them:** the fill callbacks run on the robot's thread. Calling `.Result` or `.Wait()` on a result from that thread would deadlock. `DisposeAsync` is the exception: it only cancels, so `OnStop` can wait for it.
+* **Queued orders do not survive a stop:** a request still queued or waiting for tokens when the robot stops is cancelled, and awaiting it throws `TaskCanceledException`. An order that was already sent may have executed even though its task is cancelled.
+
+By queuing trade requests, batching what arrives together, and throttling batches with a token bucket sized to the broker's limit, a multi-market strategy opens all its legs in one controlled burst and gets one result per leg back in order, instead of collecting rate-limit rejections.
@@ -0,0 +1,690 @@
+Every execution sample in these notes (`ExecuteMarketOrder`, `Order.Create`, `ClosePosition`) assumes a live cTrader server. The tick replay engine already drives strategies through `IOrderGateway`, but its `RecordingOrderGateway` only writes orders down; nothing fills them, nothing tracks positions or margin, and `ErrorCode.NoMoney` can never happen. An **in-process simulated broker** closes that gap. It accepts market, limit and stop orders, fills them against the ticks it is fed, keeps positions, balance and margin, and rejects orders with the same `ErrorCode` values the platform uses. Latency, slippage and partial fills come from a pluggable execution model. Because it needs no server, thousands of orders per second can be pushed through the execution path on a disconnected CI machine.
+
+### The Simulation Model
+
+* **Clock:** the broker has no clock of its own. Time is the timestamp of the last tick (or `Advance` call), so a replay at maximum speed simulates hours of latency in milliseconds, and every run is repeatable.
+* **Latency:** a submitted order is **in flight** until `now + latency`. Orders are kept in a `PriorityQueue` by arrival time and reach the "server" in that order.
+* **Matching:** on arrival, a market order fills at the current bid or ask plus slippage. A limit or stop order becomes **working** and is checked against every later quote of its symbol.
+* **Partial fills:** each match fills at most the liquidity the model allows for that quote. The rest stays working and fills on later quotes.
+* **Margin:** every fill reserves `units x MarginPerUnit`. A fill that needs more than the free margin is rejected with `ErrorCode.NoMoney`, just as the server does.
+* **Exact prices:** quotes, entry prices and P&L use `FixedPrice` pipettes from the fixed-point price notes. Balance changes are exact up to the final conversion to money.
+
+The broker is single-threaded: ticks, submissions and callbacks all happen on the thread that drives it, usually the replay engine's.
+
+### Symbols, Orders and Positions
+
+```csharp
+using System;
+using cAlgo.API;
+
+public sealed class SimSymbolSpec
+{
+    public SimSymbolSpec(PriceScale scale, double tickValue, double marginPerUnit)
+    {
+        Scale = scale;
+        TickValue = tickValue;
+        MarginPerUnit = marginPerUnit;
+    }
+
+    public PriceScale Scale { get; }
+    public double TickValue { get; }      // Account currency per tick per unit of volume
+    public double MarginPerUnit { get; }  // Account currency reserved per unit, e.g. price / leverage
+    public long MinVolumeUnits { get; init; } = 1_000;
+    public long VolumeStepUnits { get; init; } = 1_000;
+}
+
+public enum SimOrderType
+{
+    Market,
+    Limit,
+    Stop
+}
+
+public enum SimOrderState
+{
+    InFlight,
+    Working,
+    Filled,
+    Cancelled,
+    Rejected
+}
+
+public sealed class SimOrder
+{
+    internal Action<SimTradeResult> Callback;
+    internal SimPosition Position; // Built up by this order's fills
+
+    public long Id { get; internal init; }
+    public int SymbolId { get; internal init; }
+    public TradeType TradeType { get; internal init; }
+    public SimOrderType Type { get; internal init; }
+    public long VolumeUnits { get; internal init; }
+    public FixedPrice TargetPrice { get; internal init; }
+    public string Label { get; internal init; }
+    public long ClosingPositionId { get; internal init; } // 0 for opening orders
+    public long SubmittedNanos { get; internal init; }
+    public SimOrderState State { get; internal set; }
+    public long FilledUnits { get; internal set; }
+    public long RemainingUnits => VolumeUnits - FilledUnits;
+}
+
+public sealed class SimPosition
+{
+    internal SimOrder OpeningOrder; // May still be filling when the position is closed
+
+    public long Id { get; internal init; }
+    public int SymbolId { get; internal init; }
+    public TradeType TradeType { get; internal init; }
+    public string Label { get; internal init; }
+    public long OpenTimeNanos { get; internal init; }
+    public long VolumeUnits { get; internal set; }
+    public long EntryNotional { get; internal set; } // Sum of fill price (pipettes) x units
+    public double Margin { get; internal set; }
+    public double NetProfit { get; internal set; }   // Set when the position is closed
+
+    // Volume-weighted over partial fills
+    public FixedPrice EntryPrice => VolumeUnits > 0 ? new FixedPrice(EntryNotional / VolumeUnits) : default;
+}
+
+public readonly record struct SimTradeResult(bool IsSuccessful, ErrorCode? Error, SimOrder Order, SimPosition Position, long FilledUnits)
+{
+    public static SimTradeResult Rejected(ErrorCode error, SimOrder order = null) => new SimTradeResult(false, error, order, null, 0);
+}
+```
+
+### Pluggable Execution Models
+
+Latency, slippage and available liquidity are behind one interface, so a test can plug in a deterministic model (zero latency, no slippage) and a load test a noisy one.
+
+```csharp
+using System;
+
+public interface ISimExecutionModel
+{
+    long LatencyNanos(SimOrder order);
+
+    // Adverse price move, in pipettes, for market and stop fills
+    long SlippagePipettes(SimOrder order);
+
+    // How much of the remaining volume the current quote can fill
+    long FillableUnits(SimOrder order, long remainingUnits);
+}
+
+public sealed class RandomExecutionModel : ISimExecutionModel
+{
+    private readonly Random _random;
+
+    // A fixed seed makes every run produce the same fills
+    public RandomExecutionModel(int seed)
+    {
+        _random = new Random(seed);
+    }
+
+    public long BaseLatencyNanos { get; init; } = 2_000_000;  // 2 ms
+    public long LatencyJitterNanos { get; init; } = 1_000_000;
+    public long MaxSlippagePipettes { get; init; } = 2;
+    public double PartialFillProbability { get; init; } = 0.1;
+    public long LiquidityUnitsPerQuote { get; init; } = long.MaxValue;
+
+    public long LatencyNanos(SimOrder order) =>
+        BaseLatencyNanos + (LatencyJitterNanos > 0 ? _random.NextInt64(LatencyJitterNanos) : 0);
+
+    public long SlippagePipettes(SimOrder order) =>
+        MaxSlippagePipettes > 0 ? _random.NextInt64(MaxSlippagePipettes + 1) : 0;
+
+    public long FillableUnits(SimOrder order, long remainingUnits)
+    {
+        long available = Math.Min(remainingUnits, LiquidityUnitsPerQuote);
+        if (available > 1 && _random.NextDouble() < PartialFillProbability)
+            available = 1 + _random.NextInt64(available - 1);
+        return available;
+    }
+}
+```
+
+The broker rounds whatever the model returns down to the symbol's volume step, so a partial fill is always a tradeable size.
+
+### The Simulated Broker
+
+`SimulatedBroker` implements the replay engine's `IOrderGateway`, so replay strategies run against it unchanged. Its richer methods mirror the cTrader trading surface: `ExecuteMarketOrder`, `PlaceLimitOrder`, `PlaceStopOrder`, `CancelOrder` and `ClosePosition`, each with an optional callback like the platform's `...Async` methods. Every individual fill, including partial ones, is also published through a `HandlerRegistry<SimTradeResult>`.
+
+```csharp
+using System;
+using System.Collections.Generic;
+using cAlgo.API;
+
+public sealed class SimulatedBroker : IOrderGateway
+{
+    private struct Exposure
+    {
+        public long LongUnits;
+        public long LongNotional;
+        public long ShortUnits;
+        public long ShortNotional;
+    }
+
+    private readonly SymbolRegistry _symbols;
+    private readonly ISimExecutionModel _model;
+    private readonly SimSymbolSpec[] _specs;
+    private readonly FixedPrice[] _bid;
+    private readonly FixedPrice[] _ask;
+    private readonly bool[] _hasQuote;
+    private readonly Exposure[] _exposure;
+    private readonly List<SimOrder>[] _working;
+    private readonly List<int> _activeSymbols = new List<int>();
+    private readonly PriorityQueue<SimOrder, long> _inFlight = new PriorityQueue<SimOrder, long>();
+    private readonly Dictionary<long, SimOrder> _openOrders = new Dictionary<long, SimOrder>();
+    private readonly Dictionary<long, SimPosition> _positions = new Dictionary<long, SimPosition>();
+    private long _nextId;
+
+    public SimulatedBroker(SymbolRegistry symbols, double balance, ISimExecutionModel model)
+    {
+        _symbols = symbols ?? throw new ArgumentNullException(nameof(symbols));
+        _model = model ?? throw new ArgumentNullException(nameof(model));
+        Balance = balance;
+
+        int max = symbols.MaxSymbols;
+        _specs = new SimSymbolSpec[max];
+        _bid = new FixedPrice[max];
+        _ask = new FixedPrice[max];
+        _hasQuote = new bool[max];
+        _exposure = new Exposure[max];
+        _working = new List<SimOrder>[max];
+    }
+
+    public long NowNanos { get; private set; }
+    public double Balance { get; private set; }
+    public double UsedMargin { get; private set; }
+    public double FreeMargin => Equity - UsedMargin;
+    public long OrdersFilled { get; private set; }
+    public long OrdersRejected { get; private set; }
+    public long OrdersCancelled { get; private set; }
+    public IReadOnlyCollection<SimPosition> Positions => _positions.Values;
+    public HandlerRegistry<SimTradeResult> Fills { get; } = new HandlerRegistry<SimTradeResult>();
+
+    // Balance plus the unrealized P&L of every open position, O(symbols)
+    public double Equity
+    {
+        get
+        {
+            double equity = Balance;
+            foreach (int id in _activeSymbols)
+            {
+                ref var e = ref _exposure[id];
+                long pipetteUnits = _bid[id].Pipettes * e.LongUnits - e.LongNotional
+                                  + e.ShortNotional - _ask[id].Pipettes * e.ShortUnits;
+                equity += FixedPnl.ToMoney(pipetteUnits, _specs[id].Scale, _specs[id].TickValue);
+            }
+            return equity;
+        }
+    }
+
+    public void AddSymbol(int symbolId, SimSymbolSpec spec)
+    {
+        if (_specs[symbolId] == null)
+        {
+            _activeSymbols.Add(symbolId);
+            _working[symbolId] = new List<SimOrder>();
+        }
+        _specs[symbolId] = spec;
+    }
+
+    void IOrderGateway.ExecuteMarketOrder(int symbolId, TradeType tradeType, double volume, string label) =>
+        ExecuteMarketOrder(symbolId, tradeType, (long)volume, label);
+
+    public SimTradeResult ExecuteMarketOrder(int symbolId, TradeType tradeType, long volumeUnits, string label,
+        Action<SimTradeResult> callback = null) =>
+        Submit(symbolId, tradeType, SimOrderType.Market, volumeUnits, default, label, 0, callback);
+
+    public SimTradeResult PlaceLimitOrder(int symbolId, TradeType tradeType, long volumeUnits, FixedPrice price, string label,
+        Action<SimTradeResult> callback = null) =>
+        Submit(symbolId, tradeType, SimOrderType.Limit, volumeUnits, price, label, 0, callback);
+
+    public SimTradeResult PlaceStopOrder(int symbolId, TradeType tradeType, long volumeUnits, FixedPrice price, string label,
+        Action<SimTradeResult> callback = null) =>
+        Submit(symbolId, tradeType, SimOrderType.Stop, volumeUnits, price, label, 0, callback);
+
+    public SimTradeResult ClosePosition(long positionId, Action<SimTradeResult> callback = null)
+    {
+        if (!_positions.TryGetValue(positionId, out var position))
+            return Reject(null, ErrorCode.EntityNotFound, callback);
+
+        // Closing is an opposite market order for the position's volume
+        var closeSide = position.TradeType == TradeType.Buy ? TradeType.Sell : TradeType.Buy;
+        return Submit(position.SymbolId, closeSide, SimOrderType.Market, position.VolumeUnits, default,
+            position.Label, positionId, callback);
+    }
+
+    public SimTradeResult CancelOrder(long orderId)
+    {
+        if (!_openOrders.Remove(orderId, out var order) || order.ClosingPositionId != 0)
+            return SimTradeResult.Rejected(ErrorCode.EntityNotFound);
+
+        // In-flight orders are skipped when they arrive; working ones are removed now
+        if (order.State == SimOrderState.Working)
+            _working[order.SymbolId].Remove(order);
+
+        order.State = SimOrderState.Cancelled;
+        OrdersCancelled++;
+        return new SimTradeResult(true, null, order, order.Position, 0);
+    }
+
+    // Feed every tick here, before the strategy sees it
+    public void OnTick(in TickRecord tick)
+    {
+        int id = tick.SymbolId;
+        var spec = _specs[id];
+        if (spec == null)
+            return;
+
+        // Orders that reached the server before this tick see the previous quote
+        Advance(tick.TimestampNanos);
+
+        _bid[id] = spec.Scale.ToFixed(tick.Bid);
+        _ask[id] = spec.Scale.ToFixed(tick.Ask);
+        _hasQuote[id] = true;
+
+        MatchWorking(id);
+    }
+
+    public void Advance(long nowNanos)
+    {
+        while (_inFlight.TryPeek(out var order, out long arrival) && arrival <= nowNanos)
+        {
+            _inFlight.Dequeue();
+            NowNanos = arrival;
+            Arrive(order);
+        }
+
+        NowNanos = nowNanos;
+    }
+
+    private SimTradeResult Submit(int symbolId, TradeType tradeType, SimOrderType type, long volumeUnits,
+        FixedPrice price, string label, long closingPositionId, Action<SimTradeResult> callback)
+    {
+        if ((uint)symbolId >= (uint)_specs.Length || _specs[symbolId] == null)
+            return Reject(null, ErrorCode.UnknownSymbol, callback);
+
+        var spec = _specs[symbolId];
+        if (volumeUnits < spec.MinVolumeUnits || volumeUnits % spec.VolumeStepUnits != 0)
+            return Reject(null, ErrorCode.BadVolume, callback);
+
+        if (!_hasQuote[symbolId])
+            return Reject(null, ErrorCode.MarketClosed, callback);
+
+        // Pre-check like the server does; the fill checks again against the margin at that time
+        if (closingPositionId == 0 && volumeUnits * spec.MarginPerUnit > FreeMargin)
+            return Reject(null, ErrorCode.NoMoney, callback);
+
+        var order = new SimOrder
+        {
+            Id = ++_nextId,
+            SymbolId = symbolId,
+            TradeType = tradeType,
+            Type = type,
+            VolumeUnits = volumeUnits,
+            TargetPrice = price,
+            Label = label,
+            ClosingPositionId = closingPositionId,
+            SubmittedNanos = NowNanos,
+            State = SimOrderState.InFlight,
+            Callback = callback
+        };
+
+        _openOrders.Add(order.Id, order);
+        _inFlight.Enqueue(order, NowNanos + _model.LatencyNanos(order));
+        return new SimTradeResult(true, null, order, null, 0);
+    }
+
+    private void Arrive(SimOrder order)
+    {
+        if (order.State == SimOrderState.Cancelled)
+            return;
+
+        if (order.ClosingPositionId != 0 && !_positions.ContainsKey(order.ClosingPositionId))
+        {
+            Complete(order, SimOrderState.Rejected, ErrorCode.EntityNotFound);
+            return;
+        }
+
+        order.State = SimOrderState.Working;
+        if (TryFill(order))
+            return;
+
+        // Pending orders report acceptance; market orders report when they complete
+        _working[order.SymbolId].Add(order);
+        if (order.Type != SimOrderType.Market)
+            order.Callback?.Invoke(new SimTradeResult(true, null, order, null, 0));
+    }
+
+    private void MatchWorking(int symbolId)
+    {
+        var working = _working[symbolId];
+        for (int i = working.Count - 1; i >= 0; i--)
+        {
+            // Orders completed elsewhere (e.g. the rest of an opening order cancelled by a close) are dropped here
+            if (working[i].State != SimOrderState.Working || TryFill(working[i]))
+            {
+                // Order does not matter here, so swap-remove is O(1)
+                working[i] = working[^1];
+                working.RemoveAt(working.Count - 1);
+            }
+        }
+    }
+
+    // Returns true when the order is finished (filled, rejected or its position is gone)
+    private bool TryFill(SimOrder order)
+    {
+        int id = order.SymbolId;
+        var spec = _specs[id];
+        bool isBuy = order.TradeType == TradeType.Buy;
+        FixedPrice quote = isBuy ? _ask[id] : _bid[id];
+
+        bool triggered = order.Type switch
+        {
+            SimOrderType.Limit => isBuy ? quote <= order.TargetPrice : quote >= order.TargetPrice,
+            SimOrderType.Stop => isBuy ? quote >= order.TargetPrice : quote <= order.TargetPrice,
+            _ => true
+        };
+        if (!triggered)
+            return false;
+
+        // Limits fill at the quote, which is at or better than the limit; others pay slippage
+        long slippage = order.Type == SimOrderType.Limit ? 0 : _model.SlippagePipettes(order);
+        FixedPrice price = isBuy ? quote + slippage : quote - slippage;
+
+        if (order.ClosingPositionId != 0)
+            return Close(order, price);
+
+        long units = _model.FillableUnits(order, order.RemainingUnits);
+        units -= units % spec.VolumeStepUnits;
+        if (units <= 0)
+            return false;
+
+        double margin = units * spec.MarginPerUnit;
+        if (margin > FreeMargin)
+        {
+            Complete(order, SimOrderState.Rejected, ErrorCode.NoMoney);
+            return true;
+        }
+
+        var position = order.Position;
+        if (position == null)
+        {
+            position = new SimPosition
+            {
+                Id = ++_nextId,
+                SymbolId = id,
+                TradeType = order.TradeType,
+                Label = order.Label,
+                OpenTimeNanos = NowNanos,
+                OpeningOrder = order
+            };
+            order.Position = position;
+            _positions.Add(position.Id, position);
+        }
+
+        long notional = price.Pipettes * units;
+        position.VolumeUnits += units;
+        position.EntryNotional += notional;
+        position.Margin += margin;
+        UsedMargin += margin;
+        AddExposure(id, isBuy, units, notional);
+
+        order.FilledUnits += units;
+        Fills.Invoke(new SimTradeResult(true, null, order, position, units));
+
+        if (order.RemainingUnits > 0)
+            return false;
+
+        Complete(order, SimOrderState.Filled, null);
+        return true;
+    }
+
+    private bool Close(SimOrder order, FixedPrice price)
+    {
+        if (!_positions.Remove(order.ClosingPositionId, out var position))
+        {
+            Complete(order, SimOrderState.Rejected, ErrorCode.EntityNotFound);
+            return true;
+        }
+
+        // A close takes the position as it is: the unfilled rest of its opening order is cancelled,
+        // otherwise later fills would add margin and exposure to a position the broker no longer tracks
+        var opening = position.OpeningOrder;
+        if (opening != null && opening.State == SimOrderState.Working)
+            Complete(opening, SimOrderState.Cancelled, null);
+
+        var spec = _specs[position.SymbolId];
+        bool wasBuy = position.TradeType == TradeType.Buy;
+        long exitNotional = price.Pipettes * position.VolumeUnits;
+        long pipetteUnits = wasBuy ? exitNotional - position.EntryNotional : position.EntryNotional - exitNotional;
+
+        position.NetProfit = FixedPnl.ToMoney(pipetteUnits, spec.Scale, spec.TickValue);
+        Balance += position.NetProfit;
+        UsedMargin -= position.Margin;
+        AddExposure(position.SymbolId, wasBuy, -position.VolumeUnits, -position.EntryNotional);
+
+        order.Position = position;
+        order.FilledUnits = order.VolumeUnits;
+        Fills.Invoke(new SimTradeResult(true, null, order, position, order.VolumeUnits));
+        Complete(order, SimOrderState.Filled, null);
+        return true;
+    }
+
+    private void AddExposure(int symbolId, bool isBuy, long units, long notional)
+    {
+        ref var e = ref _exposure[symbolId];
+        if (isBuy)
+        {
+            e.LongUnits += units;
+            e.LongNotional += notional;
+        }
+        else
+        {
+            e.ShortUnits += units;
+            e.ShortNotional += notional;
+        }
+    }
+
+    private void Complete(SimOrder order, SimOrderState state, ErrorCode? error)
+    {
+        order.State = state;
+        _openOrders.Remove(order.Id);
+
+        if (state == SimOrderState.Filled)
+            OrdersFilled++;
+        else if (state == SimOrderState.Cancelled)
+            OrdersCancelled++;
+        else
+            OrdersRejected++;
+
+        order.Callback?.Invoke(new SimTradeResult(error == null, error, order, order.Position, order.FilledUnits));
+    }
+
+    private SimTradeResult Reject(SimOrder order, ErrorCode error, Action<SimTradeResult> callback)
+    {
+        OrdersRejected++;
+        var result = SimTradeResult.Rejected(error, order);
+        callback?.Invoke(result);
+        return result;
+    }
+}
+```
+
+A few details worth noting:
+
+* **Two margin checks:** `Submit` rejects an order that could never be afforded right away. `TryFill` checks again, because prices and other fills may have used up the margin while the order was in flight. A partly filled order that runs out of margin keeps its filled part as a position and reports `NoMoney` for the rest.
+* **Cancel races:** cancelling an in-flight order only marks it; it is dropped when it "arrives". An order that filled before the cancel arrived is no longer open, so the cancel returns `EntityNotFound`, as it would against a real server.
+* **Working orders are a flat list:** each quote scans the working orders of its symbol. That is fine for tens of pending orders per symbol; the price-level order book notes replace the list for thousands of them.
+* **Closing a partly filled position:** a close takes the position with the units filled so far and cancels the unfilled rest of its opening order. Without that, the opening order would keep filling into a position the broker no longer tracks, and its margin and exposure would never be released. The opening order's callback reports `Cancelled`.
+
+### Partial Fill, Then Close
+
+With no latency, no slippage and 10,000 units of liquidity per quote, a 50,000-unit order fills 10,000 units on each quote. Closing the position after two quotes closes 20,000 units and cancels the remaining 30,000:
+
+```csharp
+var symbols = new SymbolRegistry(16);
+int eurusd = symbols.Intern("EURUSD");
+
+var model = new RandomExecutionModel(seed: 1)
+{
+    BaseLatencyNanos = 0,
+    LatencyJitterNanos = 0,
+    MaxSlippagePipettes = 0,
+    PartialFillProbability = 0,
+    LiquidityUnitsPerQuote = 10_000
+};
+
+var broker = new SimulatedBroker(symbols, balance: 100_000, model);
+broker.AddSymbol(eurusd, new SimSymbolSpec(new PriceScale(5, 0.0001, 0.00001), tickValue: 0.00001, marginPerUnit: 1.08 / 30));
+
+var tick = new TickRecord { SymbolId = eurusd, TimestampNanos = 1_000_000, Bid = 1.08000, Ask = 1.08002 };
+broker.OnTick(in tick);
+
+var opening = broker.ExecuteMarketOrder(eurusd, TradeType.Buy, 50_000, "Partial").Order;
+
+// Arrives and fills 10,000 at the previous quote, then 10,000 more at the new one
+tick.TimestampNanos += 1_000_000;
+broker.OnTick(in tick);
+
+var position = opening.Position;
+Console.WriteLine($"{position.VolumeUnits:N0} filled, {opening.RemainingUnits:N0} left, margin {broker.UsedMargin:N2}");
+// 20,000 filled, 30,000 left, margin 720.00
+
+broker.ClosePosition(position.Id, result => Console.WriteLine($"Closed {result.FilledUnits:N0} units"));
+
+tick.TimestampNanos += 1_000_000;
+broker.OnTick(in tick);
+// Closed 20,000 units
+
+Console.WriteLine($"{opening.State}, {opening.FilledUnits:N0} filled, margin {broker.UsedMargin:N2}, positions {broker.Positions.Count}");
+// Cancelled, 20,000 filled, margin 0.00, positions 0
+```
+
+Later quotes leave the balance and margin untouched: the cancelled opening order is dropped from the working list on the next `MatchWorking` pass.
+
+### Driving a Replay Strategy Against the Broker
+
+The replay engine calls the strategy for every tick. A small wrapper feeds each tick to the broker first, so the strategy always sees fills that happened up to that tick:
+
+```csharp
+public sealed class SimulatedExecutionStrategy : IReplayStrategy
+{
+    private readonly SimulatedBroker _broker;
+    private readonly IReplayStrategy _inner;
+
+    public SimulatedExecutionStrategy(SimulatedBroker broker, IReplayStrategy inner)
+    {
+        _broker = broker;
+        _inner = inner;
+    }
+
+    public void OnStart(ReplayContext context) => _inner.OnStart(context);
+
+    public void OnTick(in TickRecord tick)
+    {
+        _broker.OnTick(in tick);
+        _inner.OnTick(in tick);
+    }
+
+    public void OnBar(int symbolId, in OhlcBar bar) => _inner.OnBar(symbolId, in bar);
+
+    public void OnStop() => _inner.OnStop();
+}
+```
+
+Create the `ReplayContext` with the broker as its `IOrderGateway` (`new ReplayContext(symbols, broker)`), and the strategy's `context.Orders.ExecuteMarketOrder(...)` calls now produce real fills, positions and P&L.
+
+### Load-Testing the Execution Path on CI
+
+This console program needs no cTrader connection. It generates a random walk of EURUSD quotes, one per millisecond of simulated time, sends orders on every quote and closes positions as they accumulate, then reports the throughput. The balance and leverage leave room for about 9,000 positions of 10,000 units, well above the 500 at which the test starts closing, so orders are not simply rejected for lack of margin:
+
+```csharp
+using System;
+using System.Collections.Generic;
+using System.Diagnostics;
+using System.Linq;
+using cAlgo.API;
+
+public static class SimulatedBrokerLoadTest
+{
+    public static void Main()
+    {
+        var symbols = new SymbolRegistry(16);
+        int eurusd = symbols.Intern("EURUSD");
+
+        var model = new RandomExecutionModel(seed: 42)
+        {
+            BaseLatencyNanos = 1_000_000,
+            MaxSlippagePipettes = 1,
+            PartialFillProbability = 0.2
+        };
+
+        // 1:100 leverage: 108 of margin per 10,000-unit position
+        var broker = new SimulatedBroker(symbols, balance: 1_000_000, model);
+        broker.AddSymbol(eurusd, new SimSymbolSpec(new PriceScale(5, 0.0001, 0.00001), tickValue: 0.00001, marginPerUnit: 1.08 / 100));
+
+        long accepted = 0, rejectedAtSubmit = 0, partialFills = 0;
+        var closing = new HashSet<long>();  // Positions with a close in flight
+        using var subscription = broker.Fills.Subscribe(fill =>
+        {
+            if (fill.FilledUnits < fill.Order.VolumeUnits)
+                partialFills++;
+        });
+
+        var random = new Random(7);
+        var tick = new TickRecord { SymbolId = eurusd, Bid = 1.08000, Ask = 1.08002 };
+        const int Quotes = 1_000_000;
+        const int OrdersPerQuote = 4;
+
+        var clock = Stopwatch.StartNew();
+        for (int i = 0; i < Quotes; i++)
+        {
+            double step = (random.Next(3) - 1) * 0.00001;
+            tick.TimestampNanos += 1_000_000;
+            tick.Bid = Math.Round(tick.Bid + step, 5);
+            tick.Ask = Math.Round(tick.Bid + 0.00002, 5);
+            broker.OnTick(in tick);
+
+            for (int n = 0; n < OrdersPerQuote; n++)
+            {
+                var side = random.Next(2) == 0 ? TradeType.Buy : TradeType.Sell;
+                if (broker.ExecuteMarketOrder(eurusd, side, 10_000, "Load").IsSuccessful)
+                    accepted++;
+                else
+                    rejectedAtSubmit++;
+            }
+
+            // Positions stay listed until their close arrives, so skip those already being closed
+            if (broker.Positions.Count - closing.Count > 500)
+            {
+                var toClose = broker.Positions.Where(p => !closing.Contains(p.Id)).Take(250).Select(p => p.Id).ToList();
+                foreach (long id in toClose)
+                {
+                    closing.Add(id);
+                    broker.ClosePosition(id, _ => closing.Remove(id));
+                }
+            }
+        }
+        clock.Stop();
+
+        double orders = (double)Quotes * OrdersPerQuote;
+        Console.WriteLine($"{orders / clock.Elapsed.TotalSeconds:N0} orders/s, {accepted:N0} accepted, {rejectedAtSubmit:N0} rejected at submit");
+        Console.WriteLine($"{broker.OrdersFilled:N0} filled (opens and closes), {broker.OrdersRejected:N0} rejected (incl. at submit), " +
+                          $"{broker.OrdersCancelled:N0} cancelled, {partialFills:N0} partial fills");
+        Console.WriteLine($"Balance {broker.Balance:N2}, equity {broker.Equity:N2}, used margin {broker.UsedMargin:N2}");
+    }
+}
+```
+
+Because the model is seeded, the fills, balance and rejection counts are the same on every run. With 20% partial fills, some closes arrive while the opening order is still filling, which is what the cancelled count shows. A CI job can assert on them, and a drop in orders per second points at a regression in the execution path.
+
+### Things to Keep in Mind
+
+* **The simulation is optimistic about liquidity:** market orders fill against the top-of-book quote only. Use `LiquidityUnitsPerQuote` and `PartialFillProbability` to make large orders walk across several quotes.
+* **Stop loss and take profit are not simulated:** attach them as separate stop and limit orders, or extend `SimPosition` if a strategy relies on them.
+* **Margin is a flat rate per unit:** `MarginPerUnit` stands in for the broker's leverage tiers and currency conversion. Set it from `Symbol` and `Account` values when you compare against a live account.
+* **Callbacks run inline:** fills and callbacks run on the thread that calls `OnTick` or `Advance`. A handler that submits another order is fine; a handler that blocks stalls the whole simulation.
+
+By simulating latency, slippage, partial fills, positions and margin in process, against the same order and error vocabulary as the platform, strategies and execution code can be tested and benchmarked at thousands of orders per second without a server, with repeatable results.
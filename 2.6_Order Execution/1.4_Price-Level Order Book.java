@@ -0,0 +1,467 @@
+In the OOP notes, `PendingOrderManager.ExecuteEntryOrder(string signal)` creates pending orders with `Order.Create(...)` and then forgets them. Nothing in the bot knows which orders are resting, at which prices, or which of them the last tick crossed. A grid bot with thousands of resting orders cannot afford to loop over all of them on every tick. A **local order book** keeps the resting orders grouped by price level, so each tick only touches the levels that were actually crossed.
+
+### How the Book Is Organized
+
+* **Four trigger ladders:** buy limits, sell limits, buy stops and sell stops each have their own ladder, because each triggers on a different side of the quote (buys on the ask, sells on the bid) and in a different direction.
+* **Price levels in a heap of `long` keys:** each ladder keeps its level prices in a binary heap over a plain `long[]`, ordered so the **next level to trigger is always at the top**. Adding a new level is O(log n). Checking a tick is one comparison with the top when nothing triggers.
+* **Intrusive FIFO per level:** orders live in pooled parallel arrays (`id`, `volume`, `kind`, `level`, `next`, `previous`). The links are array indices, so the queue of a level is threaded through the order slots themselves and nothing is allocated per order. Orders at the same price trigger in the order they were added.
+* **O(1) cancel:** a dictionary maps order id to slot. A cancel unlinks the slot from its doubly linked level queue and returns it to the free list. Each level counts its orders; the cancel that empties a level removes it from the ladder's dictionary and frees it.
+* **Fixed-point prices:** level prices are `FixedPrice` pipettes, so two orders at "the same" price always share a level, with no floating-point near-misses.
+
+One heap key sign trick covers all four ladders. Ladders where the **lowest** price triggers first (sell limits, buy stops) store `+price`. Ladders where the **highest** price triggers first (buy limits, sell stops) store `-price`. In both cases a level triggers when `key <= sign x quote`:
+
+| Ladder | Triggers when | First to trigger | Key |
+|---|---|---|---|
+| Buy limit | ask <= price | highest price | `-price` |
+| Sell limit | bid >= price | lowest price | `+price` |
+| Buy stop | ask >= price | lowest price | `+price` |
+| Sell stop | bid <= price | highest price | `-price` |
+
+### Code Sample (Local Order Book)
+
+```csharp
+using System;
+using System.Collections.Generic;
+
+public enum PendingOrderKind : byte
+{
+    BuyLimit,
+    SellLimit,
+    BuyStop,
+    SellStop
+}
+
+public readonly record struct TriggeredOrder(long OrderId, PendingOrderKind Kind, FixedPrice Price, long VolumeUnits, FixedPrice Quote);
+
+public sealed class LocalOrderBook
+{
+    private const int None = -1;
+
+    // Order slots; _next/_previous thread each level's FIFO through the slots
+    private long[] _orderIds;
+    private long[] _orderVolumes;
+    private PendingOrderKind[] _orderKinds;
+    private int[] _orderLevels;
+    private int[] _next;
+    private int[] _previous;
+    private int _orderSlotsUsed;
+    private int _freeOrder = None;
+
+    // Level slots
+    private long[] _levelPrices;
+    private int[] _levelHeads;
+    private int[] _levelTails;
+    private int[] _levelCounts;
+    private int _levelSlotsUsed;
+    private int _freeLevel = None;
+
+    private readonly Dictionary<long, int> _slotsById;
+    private readonly Ladder[] _ladders;
+    private TriggeredOrder[] _triggered = new TriggeredOrder[64];
+    private int _triggeredCount;
+
+    public LocalOrderBook(int initialCapacity = 1024)
+    {
+        if (initialCapacity <= 0)
+            throw new ArgumentOutOfRangeException(nameof(initialCapacity));
+
+        _orderIds = new long[initialCapacity];
+        _orderVolumes = new long[initialCapacity];
+        _orderKinds = new PendingOrderKind[initialCapacity];
+        _orderLevels = new int[initialCapacity];
+        _next = new int[initialCapacity];
+        _previous = new int[initialCapacity];
+
+        _levelPrices = new long[initialCapacity];
+        _levelHeads = new int[initialCapacity];
+        _levelTails = new int[initialCapacity];
+        _levelCounts = new int[initialCapacity];
+
+        _slotsById = new Dictionary<long, int>(initialCapacity);
+        _ladders = new[]
+        {
+            new Ladder(sign: -1), // BuyLimit
+            new Ladder(sign: +1), // SellLimit
+            new Ladder(sign: +1), // BuyStop
+            new Ladder(sign: -1)  // SellStop
+        };
+    }
+
+    public int Count => _slotsById.Count;
+
+    // Orders triggered by the last OnQuote call, in trigger order
+    public ReadOnlySpan<TriggeredOrder> Triggered => _triggered.AsSpan(0, _triggeredCount);
+
+    public bool Contains(long orderId) => _slotsById.ContainsKey(orderId);
+
+    // Orders resting at one price level of a ladder
+    public int CountAt(PendingOrderKind kind, FixedPrice price) =>
+        _ladders[(int)kind].Levels.TryGetValue(price.Pipettes, out int level) ? _levelCounts[level] : 0;
+
+    // O(1) if the price level exists, O(log levels) if it is new
+    public void Add(long orderId, PendingOrderKind kind, FixedPrice price, long volumeUnits)
+    {
+        if (volumeUnits <= 0)
+            throw new ArgumentOutOfRangeException(nameof(volumeUnits));
+        if (_slotsById.ContainsKey(orderId))
+            throw new ArgumentException($"Order {orderId} is already in the book.", nameof(orderId));
+
+        var ladder = _ladders[(int)kind];
+        if (!ladder.Levels.TryGetValue(price.Pipettes, out int level))
+        {
+            level = AllocateLevel(price.Pipettes);
+            ladder.Levels.Add(price.Pipettes, level);
+            ladder.Push(ladder.Sign * price.Pipettes);
+        }
+
+        int slot = AllocateOrder();
+        _orderIds[slot] = orderId;
+        _orderVolumes[slot] = volumeUnits;
+        _orderKinds[slot] = kind;
+        _orderLevels[slot] = level;
+
+        // Append at the tail of the level's FIFO
+        int tail = _levelTails[level];
+        _previous[slot] = tail;
+        _next[slot] = None;
+        if (tail != None) _next[tail] = slot; else _levelHeads[level] = slot;
+        _levelTails[level] = slot;
+        _levelCounts[level]++;
+
+        _slotsById.Add(orderId, slot);
+    }
+
+    // O(1) amortized; the cancel that empties a level also removes the level
+    public bool Cancel(long orderId)
+    {
+        if (!_slotsById.Remove(orderId, out int slot))
+            return false;
+
+        int level = _orderLevels[slot];
+        int prev = _previous[slot];
+        int next = _next[slot];
+        if (prev != None) _next[prev] = next; else _levelHeads[level] = next;
+        if (next != None) _previous[next] = prev; else _levelTails[level] = prev;
+        var kind = _orderKinds[slot];
+        FreeOrder(slot);
+
+        if (--_levelCounts[level] == 0)
+        {
+            // Its heap key is skipped when it reaches the top, or dropped when the heap is rebuilt
+            var ladder = _ladders[(int)kind];
+            ladder.Levels.Remove(_levelPrices[level]);
+            ladder.OnKeyStale();
+            FreeLevel(level);
+        }
+
+        return true;
+    }
+
+    // Call on every tick; returns how many orders were triggered (see Triggered)
+    public int OnQuote(FixedPrice bid, FixedPrice ask)
+    {
+        _triggeredCount = 0;
+        Drain(PendingOrderKind.BuyLimit, ask);
+        Drain(PendingOrderKind.SellLimit, bid);
+        Drain(PendingOrderKind.BuyStop, ask);
+        Drain(PendingOrderKind.SellStop, bid);
+        return _triggeredCount;
+    }
+
+    private void Drain(PendingOrderKind kind, FixedPrice quote)
+    {
+        var ladder = _ladders[(int)kind];
+        long threshold = ladder.Sign * quote.Pipettes;
+
+        while (ladder.HeapCount > 0 && ladder.Top <= threshold)
+        {
+            long price = ladder.Sign * ladder.Pop();
+            if (!ladder.Levels.Remove(price, out int level))
+            {
+                ladder.StaleKeys--; // Level was emptied by cancels
+                continue;
+            }
+
+            // Whole level in FIFO order
+            for (int slot = _levelHeads[level]; slot != None;)
+            {
+                int next = _next[slot];
+                AppendTriggered(new TriggeredOrder(_orderIds[slot], kind, new FixedPrice(price), _orderVolumes[slot], quote));
+                _slotsById.Remove(_orderIds[slot]);
+                FreeOrder(slot);
+                slot = next;
+            }
+
+            FreeLevel(level);
+        }
+    }
+
+    private void AppendTriggered(in TriggeredOrder order)
+    {
+        if (_triggeredCount == _triggered.Length)
+            Array.Resize(ref _triggered, _triggered.Length * 2);
+        _triggered[_triggeredCount++] = order;
+    }
+
+    private int AllocateOrder()
+    {
+        if (_freeOrder != None)
+        {
+            int slot = _freeOrder;
+            _freeOrder = _next[slot];
+            return slot;
+        }
+
+        if (_orderSlotsUsed == _orderIds.Length)
+        {
+            int size = _orderIds.Length * 2;
+            Array.Resize(ref _orderIds, size);
+            Array.Resize(ref _orderVolumes, size);
+            Array.Resize(ref _orderKinds, size);
+            Array.Resize(ref _orderLevels, size);
+            Array.Resize(ref _next, size);
+            Array.Resize(ref _previous, size);
+        }
+
+        return _orderSlotsUsed++;
+    }
+
+    private void FreeOrder(int slot)
+    {
+        _next[slot] = _freeOrder;
+        _freeOrder = slot;
+    }
+
+    private int AllocateLevel(long price)
+    {
+        int level;
+        if (_freeLevel != None)
+        {
+            level = _freeLevel;
+            _freeLevel = _levelHeads[level];
+        }
+        else
+        {
+            if (_levelSlotsUsed == _levelPrices.Length)
+            {
+                int size = _levelPrices.Length * 2;
+                Array.Resize(ref _levelPrices, size);
+                Array.Resize(ref _levelHeads, size);
+                Array.Resize(ref _levelTails, size);
+                Array.Resize(ref _levelCounts, size);
+            }
+            level = _levelSlotsUsed++;
+        }
+
+        _levelPrices[level] = price;
+        _levelHeads[level] = None;
+        _levelTails[level] = None;
+        _levelCounts[level] = 0;
+        return level;
+    }
+
+    private void FreeLevel(int level)
+    {
+        _levelHeads[level] = _freeLevel;
+        _freeLevel = level;
+    }
+
+    // Binary min-heap of signed level prices plus the price -> level map
+    private sealed class Ladder
+    {
+        private long[] _heap = new long[64];
+
+        public Ladder(int sign)
+        {
+            Sign = sign;
+        }
+
+        public int Sign { get; }
+        public int HeapCount { get; private set; }
+        public int StaleKeys { get; set; } // Heap keys whose level was removed by cancels
+        public long Top => _heap[0];
+        public Dictionary<long, int> Levels { get; } = new Dictionary<long, int>();
+
+        // Rebuilding once half the keys are stale keeps the heap at most twice the live levels,
+        // at O(1) amortized cost per removed level
+        public void OnKeyStale()
+        {
+            if (++StaleKeys * 2 <= HeapCount)
+                return;
+
+            HeapCount = 0;
+            StaleKeys = 0;
+            foreach (long price in Levels.Keys)
+                Push(Sign * price);
+        }
+
+        public void Push(long key)
+        {
+            if (HeapCount == _heap.Length)
+                Array.Resize(ref _heap, _heap.Length * 2);
+
+            int i = HeapCount++;
+            while (i > 0)
+            {
+                int parent = (i - 1) >> 1;
+                if (_heap[parent] <= key)
+                    break;
+                _heap[i] = _heap[parent];
+                i = parent;
+            }
+            _heap[i] = key;
+        }
+
+        public long Pop()
+        {
+            long top = _heap[0];
+            long last = _heap[--HeapCount];
+
+            int i = 0;
+            while (true)
+            {
+                int child = 2 * i + 1;
+                if (child >= HeapCount)
+                    break;
+                if (child + 1 < HeapCount && _heap[child + 1] < _heap[child])
+                    child++;
+                if (last <= _heap[child])
+                    break;
+                _heap[i] = _heap[child];
+                i = child;
+            }
+            _heap[i] = last;
+            return top;
+        }
+    }
+}
+```
+
+Free slots are chained through `_next` (orders) and `_levelHeads` (levels), so the free lists need no extra storage. Every level in a ladder's dictionary has exactly one live key in its heap. When the last order of a level is cancelled, the level leaves the dictionary and returns to the free list at once; its heap key becomes stale. A stale key is skipped when it reaches the top, and the heap is rebuilt from the dictionary once half of its keys are stale. A grid that keeps cancelling orders at prices that are never reached therefore does not accumulate empty levels. `CountAt` reports how many orders rest at a level.
+
+Triggered orders are collected in a buffer and read through `Triggered` after `OnQuote` returns, rather than being reported through a callback. The bot can then freely add or cancel orders (re-arming a grid, cancelling the other side of an OCO pair) without changing the book while it is being drained.
+
+### Rewriting PendingOrderManager
+
+The manager keeps its entry orders in the local book and sends a market order when one is triggered. For a grid, these "virtual" pending orders also avoid the broker's limit on the number of server-side pending orders. Every tick is one `OnQuote` call, which costs a few comparisons when nothing is crossed.
+
+```csharp
+using System;
+using cAlgo.API;
+
+public class PendingOrderManager : IOrderManager
+{
+    private readonly Robot robot;
+    private readonly PriceScale scale;
+    private readonly LocalOrderBook book = new LocalOrderBook(4096);
+    private readonly long volumeUnits;
+    private long nextOrderId;
+
+    public PendingOrderManager(Robot robot, long volumeUnits)
+    {
+        this.robot = robot;
+        this.volumeUnits = volumeUnits;
+        scale = PriceScale.Of(robot.Symbol);
+    }
+
+    public int RestingOrders => book.Count;
+
+    public void ExecuteEntryOrder(string signal)
+    {
+        FixedPrice price = scale.ToFixed(GetEntryPrice(signal));  // Logic for pending order price
+        if (signal == "Buy")
+            Place(PendingOrderKind.BuyLimit, price);
+        else if (signal == "Sell")
+            Place(PendingOrderKind.SellLimit, price);
+    }
+
+    public long Place(PendingOrderKind kind, FixedPrice price)
+    {
+        long id = ++nextOrderId;
+        book.Add(id, kind, price, volumeUnits);
+        return id;
+    }
+
+    public bool Cancel(long orderId) => book.Cancel(orderId);
+
+    // Call from OnTick
+    public ReadOnlySpan<TriggeredOrder> OnTick(double bid, double ask)
+    {
+        if (book.OnQuote(scale.ToFixed(bid), scale.ToFixed(ask)) == 0)
+            return ReadOnlySpan<TriggeredOrder>.Empty;
+
+        foreach (var order in book.Triggered)
+        {
+            var side = order.Kind is PendingOrderKind.BuyLimit or PendingOrderKind.BuyStop ? TradeType.Buy : TradeType.Sell;
+            robot.ExecuteMarketOrder(side, robot.SymbolName, order.VolumeUnits, "Grid-" + order.OrderId);
+        }
+
+        return book.Triggered;
+    }
+
+    private double GetEntryPrice(string signal) =>
+        signal == "Buy" ? robot.Symbol.Bid - 10 * robot.Symbol.PipSize : robot.Symbol.Ask + 10 * robot.Symbol.PipSize;
+}
+```
+
+### A Grid Bot with Thousands of Resting Orders
+
+```csharp
+using cAlgo.API;
+
+namespace cAlgo
+{
+    [Robot(TimeZone = TimeZones.UTC, AccessRights = AccessRights.None)]
+    public class LocalGridBot : Robot
+    {
+        [Parameter("Levels per Side", DefaultValue = 1000)]
+        public int LevelsPerSide { get; set; }
+
+        [Parameter("Grid Step (pips)", DefaultValue = 5)]
+        public double StepPips { get; set; }
+
+        private PendingOrderManager orders;
+        private PriceScale scale;
+        private long step;
+
+        protected override void OnStart()
+        {
+            scale = PriceScale.Of(Symbol);
+            step = scale.Pips(StepPips);
+            orders = new PendingOrderManager(this, (long)Symbol.VolumeInUnitsMin);
+
+            FixedPrice mid = FixedPrice.Mid(scale.ToFixed(Symbol.Bid), scale.ToFixed(Symbol.Ask));
+            for (int i = 1; i <= LevelsPerSide; i++)
+            {
+                orders.Place(PendingOrderKind.BuyLimit, mid - i * step);
+                orders.Place(PendingOrderKind.SellLimit, mid + i * step);
+            }
+
+            Print("{0} grid orders resting", orders.RestingOrders);
+        }
+
+        protected override void OnTick()
+        {
+            // Usually zero or one level is crossed; the other orders are never touched
+            foreach (var filled in orders.OnTick(Symbol.Bid, Symbol.Ask))
+            {
+                // Re-arm: a filled buy becomes a sell one step higher, and vice versa
+                if (filled.Kind == PendingOrderKind.BuyLimit)
+                    orders.Place(PendingOrderKind.SellLimit, filled.Price + step);
+                else if (filled.Kind == PendingOrderKind.SellLimit)
+                    orders.Place(PendingOrderKind.BuyLimit, filled.Price - step);
+            }
+        }
+    }
+}
+```
+
+### Tips
+
+* **One book per symbol:** prices of different symbols must never share a ladder. A multi-symbol bot keeps an array of books indexed by symbol id.
+* **Trigger on the right side:** buys trigger on the ask and sells on the bid, matching how the server evaluates pending orders.
+* **Gaps trigger everything crossed:** if the price gaps through 30 levels, all 30 levels are returned by one `OnQuote` call, in price order and FIFO within each level.
+* **Server-side orders:** to mirror real pending orders instead, place them with `PlaceLimitOrder` and add them to the book under their `PendingOrder.Id`. Then `Triggered` tells you which fills to expect before the server events arrive. Remove orders from the book when `PendingOrders.Cancelled` fires.
+* **Test against the simulated broker:** the `SimulatedBroker` from the previous note scans its working orders linearly. For large grids, use a `LocalOrderBook` in front of it and send market orders for the triggered ones.
+
+By keeping resting orders in per-price FIFO levels threaded through pooled arrays, and the levels of each trigger ladder in a heap of `long` keys, the bot cancels any order in O(1), adds new levels in O(log n), and checks thousands of grid orders on every tick by looking only at the levels the price actually crossed.
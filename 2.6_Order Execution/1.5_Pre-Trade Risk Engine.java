@@ -0,0 +1,406 @@
+In the context of developing for cTrader using .NET 6 and C# 10, `ExecuteTrades()` in the variables notes only finds out that an order could not be afforded **after** it was sent, by checking `result.Error == ErrorCode.NoMoney`. The errors and exceptions notes do the same with a thrown `InsufficientFundsException`. Either way, the order has already made a round trip to the server, and the bot has already spent part of its rate limit on a rejection it could have predicted. A **pre-trade risk engine** keeps the account's running margin, exposure per symbol, order size and position count in memory, and approves or rejects each order in well under a microsecond, before it leaves the process.
+
+### What the Engine Checks
+
+Every order is checked against these limits, in this order:
+
+1. **Halt switch:** a single flag that blocks all new risk (for example after a daily loss limit or during a news window).
+2. **Max order size:** the order's volume in units must not exceed `MaxOrderUnits`.
+3. **Max open positions:** open positions plus orders in flight must stay below `MaxOpenPositions`.
+4. **Exposure per symbol:** the net exposure (buys minus sells, in units) of the symbol after the order must stay within `MaxNetExposureUnits`. Orders that reduce exposure always pass this check.
+5. **Margin:** the margin of open positions, plus margin reserved for orders in flight, plus the margin of this order, must fit into equity times `MaxMarginUsage`, and must leave free margin.
+
+The checks are plain arithmetic over arrays indexed by the interned symbol id, so a decision costs a few dozen nanoseconds plus an uncontended lock.
+
+### Reserve, Then Commit or Release
+
+A check that only *looks* at the counters is not enough. Two threads (or two quick signals) could both pass against the same free margin. The engine therefore **reserves** what an approved order will use. The caller then either commits the reservation when the order fills or releases it when the order is rejected or cancelled. Orders in flight count against every limit until one of those happens.
+
+```csharp
+using System;
+using cAlgo.API;
+
+public enum RiskDecision
+{
+    Approved,
+    Halted,
+    UnknownSymbol,
+    OrderTooLarge,
+    TooManyPositions,
+    ExposureLimit,
+    InsufficientMargin
+}
+
+public sealed class RiskLimits
+{
+    public long MaxOrderUnits { get; init; } = 1_000_000;
+    public int MaxOpenPositions { get; init; } = 100;
+    public long MaxNetExposureUnits { get; init; } = 5_000_000;
+
+    // Share of equity that margin may use, e.g. 0.5 keeps the margin level at 200% or more
+    public double MaxMarginUsage { get; init; } = 0.5;
+}
+
+public readonly record struct RiskTicket(int SymbolId, TradeType Side, long Units, double Margin);
+```
+
+### Code Sample (Pre-Trade Risk Engine)
+
+```csharp
+using System;
+using System.Threading;
+using cAlgo.API;
+
+public sealed class PreTradeRiskEngine
+{
+    private readonly object _gate = new object();
+    private readonly RiskLimits _limits;
+    private readonly double[] _marginPerUnit;
+    private readonly long[] _longUnits;
+    private readonly long[] _shortUnits;
+    private readonly double[] _longMargin;
+    private readonly double[] _shortMargin;
+    private readonly long[] _reservedNetUnits;
+    private readonly long[] _decisions = new long[Enum.GetValues(typeof(RiskDecision)).Length];
+    private double _equity;
+    private double _positionMargin;
+    private double _reservedMargin;
+    private int _openPositions;
+    private int _pendingPositions;
+    private volatile bool _halted;
+
+    public PreTradeRiskEngine(SymbolRegistry symbols, RiskLimits limits)
+    {
+        _limits = limits ?? throw new ArgumentNullException(nameof(limits));
+
+        int max = symbols.MaxSymbols;
+        _marginPerUnit = new double[max];
+        _longUnits = new long[max];
+        _shortUnits = new long[max];
+        _longMargin = new double[max];
+        _shortMargin = new double[max];
+        _reservedNetUnits = new long[max];
+    }
+
+    public bool IsHalted => _halted;
+    public double UsedMargin { get { lock (_gate) return _positionMargin + _reservedMargin; } }
+    public int OpenPositions { get { lock (_gate) return _openPositions; } }
+    public long Count(RiskDecision decision) => Interlocked.Read(ref _decisions[(int)decision]);
+
+    public void Halt() => _halted = true;
+    public void Resume() => _halted = false;
+
+    // Margin in account currency for one unit of volume; refresh when prices move a lot
+    public void SetMarginPerUnit(int symbolId, double marginPerUnit)
+    {
+        lock (_gate)
+            _marginPerUnit[symbolId] = marginPerUnit;
+    }
+
+    // Equity moves with prices; sync it from Account.Equity on every tick
+    public void SyncEquity(double equity)
+    {
+        lock (_gate)
+            _equity = equity;
+    }
+
+    public RiskDecision TryReserve(int symbolId, TradeType side, long units, out RiskTicket ticket)
+    {
+        ticket = default;
+        RiskDecision decision;
+
+        lock (_gate)
+        {
+            decision = Evaluate(symbolId, side, units, out double margin);
+            if (decision == RiskDecision.Approved)
+            {
+                _reservedMargin += margin;
+                _reservedNetUnits[symbolId] += side == TradeType.Buy ? units : -units;
+                _pendingPositions++;
+                ticket = new RiskTicket(symbolId, side, units, margin);
+            }
+        }
+
+        Interlocked.Increment(ref _decisions[(int)decision]);
+        return decision;
+    }
+
+    // The order filled (possibly partially): turn the reservation into an open position
+    public void Commit(in RiskTicket ticket, long filledUnits)
+    {
+        lock (_gate)
+        {
+            ReleaseReservation(in ticket);
+            if (filledUnits <= 0)
+                return;
+
+            double margin = ticket.Margin * filledUnits / ticket.Units;
+            AddPosition(ticket.SymbolId, ticket.Side, filledUnits, margin);
+        }
+    }
+
+    // The order was rejected or cancelled
+    public void Release(in RiskTicket ticket)
+    {
+        lock (_gate)
+            ReleaseReservation(in ticket);
+    }
+
+    // Positions that existed before the bot started, or were opened outside the engine
+    public void RegisterPosition(int symbolId, TradeType side, long units)
+    {
+        lock (_gate)
+            AddPosition(symbolId, side, units, units * _marginPerUnit[symbolId]);
+    }
+
+    // Only for positions passed to Commit or RegisterPosition; the caller keeps their ids
+    public void OnPositionClosed(int symbolId, TradeType side, long units)
+    {
+        lock (_gate)
+        {
+            // Release the closed share of the margin reserved for this side of the symbol
+            if (side == TradeType.Buy)
+                _positionMargin -= TakeShare(ref _longUnits[symbolId], ref _longMargin[symbolId], units);
+            else
+                _positionMargin -= TakeShare(ref _shortUnits[symbolId], ref _shortMargin[symbolId], units);
+
+            // Guards the counter if a caller reports a close twice
+            if (_openPositions > 0)
+                _openPositions--;
+        }
+    }
+
+    private RiskDecision Evaluate(int symbolId, TradeType side, long units, out double margin)
+    {
+        margin = 0;
+
+        if (_halted)
+            return RiskDecision.Halted;
+
+        if ((uint)symbolId >= (uint)_marginPerUnit.Length || _marginPerUnit[symbolId] <= 0)
+            return RiskDecision.UnknownSymbol;
+
+        if (units <= 0 || units > _limits.MaxOrderUnits)
+            return RiskDecision.OrderTooLarge;
+
+        if (_openPositions + _pendingPositions >= _limits.MaxOpenPositions)
+            return RiskDecision.TooManyPositions;
+
+        long net = _longUnits[symbolId] - _shortUnits[symbolId] + _reservedNetUnits[symbolId];
+        long after = side == TradeType.Buy ? net + units : net - units;
+        if (Math.Abs(after) > _limits.MaxNetExposureUnits && Math.Abs(after) > Math.Abs(net))
+            return RiskDecision.ExposureLimit;
+
+        margin = units * _marginPerUnit[symbolId];
+        double usedAfter = _positionMargin + _reservedMargin + margin;
+        if (usedAfter > _equity * _limits.MaxMarginUsage || usedAfter > _equity)
+            return RiskDecision.InsufficientMargin;
+
+        return RiskDecision.Approved;
+    }
+
+    private void ReleaseReservation(in RiskTicket ticket)
+    {
+        _reservedMargin -= ticket.Margin;
+        _reservedNetUnits[ticket.SymbolId] -= ticket.Side == TradeType.Buy ? ticket.Units : -ticket.Units;
+        _pendingPositions--;
+    }
+
+    private void AddPosition(int symbolId, TradeType side, long units, double margin)
+    {
+        if (side == TradeType.Buy)
+        {
+            _longUnits[symbolId] += units;
+            _longMargin[symbolId] += margin;
+        }
+        else
+        {
+            _shortUnits[symbolId] += units;
+            _shortMargin[symbolId] += margin;
+        }
+
+        _positionMargin += margin;
+        _openPositions++;
+    }
+
+    private static double TakeShare(ref long units, ref double margin, long closedUnits)
+    {
+        if (units <= 0)
+            return 0;
+
+        long taken = Math.Min(closedUnits, units);
+        double share = margin * taken / units;
+        units -= taken;
+        margin = units == 0 ? 0 : margin - share;
+        return share;
+    }
+}
+```
+
+The decision counters are updated outside the lock with `Interlocked`, so reading statistics never slows down the trading path. Margin for a partly closed side is released in proportion to the closed units, so the engine does not need to remember each position's margin separately.
+
+### Checking Orders in ExecuteTrades
+
+The bot asks the engine first and only calls the server for orders it approved. The `ErrorCode.NoMoney` check stays as a safety net for anything the engine could not predict, such as a margin call triggered by a price spike. The bot remembers the ids of the positions it gave to the engine, so closes of positions opened later by other bots or by hand do not release margin or slots they never held.
+
+```csharp
+using System.Collections.Generic;
+using cAlgo.API;
+
+namespace cAlgo
+{
+    [Robot(TimeZone = TimeZones.UTC, AccessRights = AccessRights.None)]
+    public class MyTradingBot : Robot
+    {
+        private readonly SymbolRegistry symbols = new SymbolRegistry(64);
+        private PreTradeRiskEngine risk;
+        private readonly HashSet<int> trackedPositions = new HashSet<int>(); // Ids the engine knows about
+        private int symbolId;
+        private bool buySignal;
+        private bool sellSignal;
+
+        protected override void OnStart()
+        {
+            symbolId = symbols.Intern(SymbolName);
+            risk = new PreTradeRiskEngine(symbols, new RiskLimits
+            {
+                MaxOrderUnits = 100_000,
+                MaxOpenPositions = 20,
+                MaxNetExposureUnits = 300_000,
+                MaxMarginUsage = 0.4
+            });
+
+            risk.SetMarginPerUnit(symbolId, Symbol.GetEstimatedMargin(TradeType.Buy, Symbol.LotSize) / Symbol.LotSize);
+            risk.SyncEquity(Account.Equity);
+
+            // Positions opened before this start still count against the limits
+            foreach (var position in Positions)
+            {
+                if (position.SymbolName == SymbolName)
+                {
+                    risk.RegisterPosition(symbolId, position.TradeType, (long)position.VolumeInUnits);
+                    trackedPositions.Add(position.Id);
+                }
+            }
+
+            Positions.Closed += args =>
+            {
+                // Ignore positions the engine never counted
+                if (trackedPositions.Remove(args.Position.Id))
+                    risk.OnPositionClosed(symbolId, args.Position.TradeType, (long)args.Position.VolumeInUnits);
+            };
+
+            Symbols.SubscribeMarketData(Symbol, MarketDataUpdate);
+        }
+
+        private void MarketDataUpdate(MarketDataEventArgs args)
+        {
+            risk.SyncEquity(Account.Equity);
+
+            bool wasBuy = buySignal, wasSell = sellSignal;
+
+            // ... CalculateIndicators() and GenerateTradingSignals() as before ...
+
+            // Trade when the signal changes, not on every tick while it holds
+            if (buySignal != wasBuy || sellSignal != wasSell)
+                ExecuteTrades();
+        }
+
+        private void ExecuteTrades()
+        {
+            if (buySignal)
+                Submit(TradeType.Buy, "Buy Signal");
+            else if (sellSignal)
+                Submit(TradeType.Sell, "Sell Signal");
+        }
+
+        private void Submit(TradeType side, string label)
+        {
+            var volume = Symbol.NormalizeVolumeInUnits(1000);
+
+            // Rejected in process: no round trip, no rate limit spent
+            var decision = risk.TryReserve(symbolId, side, (long)volume, out var ticket);
+            if (decision != RiskDecision.Approved)
+            {
+                Print("{0} blocked by risk engine: {1}", label, decision);
+                return;
+            }
+
+            TradeResult result;
+            try
+            {
+                result = ExecuteMarketOrder(side, SymbolName, volume, label, 100, null); // 100 pip stop loss
+            }
+            catch
+            {
+                // The order never got a result: free the margin and position slot it reserved
+                risk.Release(in ticket);
+                throw;
+            }
+
+            if (result.IsSuccessful)
+            {
+                risk.Commit(in ticket, (long)result.Position.VolumeInUnits);
+                trackedPositions.Add(result.Position.Id);
+            }
+            else
+            {
+                risk.Release(in ticket);
+                if (result.Error == ErrorCode.NoMoney)
+                    Print("Server rejected {0} for margin; the margin estimate is out of date", label);
+            }
+        }
+    }
+}
+```
+
+The sample also replaces `stopLossLevel = bidPrice - Symbol.PipValue * 100` with a stop loss of 100 pips passed directly to `ExecuteMarketOrder`, which expects a distance in pips, not a price.
+
+### Keeping Exceptions for the Unexpected
+
+A rejected order is an expected outcome, so the engine returns a `RiskDecision` rather than throwing. A thrown and caught exception costs microseconds on its own. Code built around the `InsufficientFundsException` from the errors notes can convert at the boundary:
+
+```csharp
+public static class RiskDecisionExtensions
+{
+    public static void ThrowIfRejected(this RiskDecision decision)
+    {
+        if (decision == RiskDecision.InsufficientMargin)
+            throw new InsufficientFundsException("Pre-trade check: not enough free margin.");
+        if (decision != RiskDecision.Approved)
+            throw new InvalidOperationException($"Pre-trade check rejected the order: {decision}.");
+    }
+}
+```
+
+### Measuring the Check
+
+A quick loop shows the cost per decision on the machine the bot runs on. On current desktop CPUs it is typically below 100 ns per `TryReserve` plus `Release` pair.
+
+```csharp
+var symbols = new SymbolRegistry(16);
+int eurusd = symbols.Intern("EURUSD");
+var risk = new PreTradeRiskEngine(symbols, new RiskLimits());
+risk.SetMarginPerUnit(eurusd, 1.08 / 30);
+risk.SyncEquity(100_000);
+
+const int Iterations = 10_000_000;
+var clock = System.Diagnostics.Stopwatch.StartNew();
+for (int i = 0; i < Iterations; i++)
+{
+    if (risk.TryReserve(eurusd, TradeType.Buy, 10_000, out var ticket) == RiskDecision.Approved)
+        risk.Release(in ticket);
+}
+clock.Stop();
+
+Console.WriteLine($"{clock.Elapsed.TotalMilliseconds * 1_000_000 / Iterations:F0} ns per check");
+```
+
+### Things to Keep in Mind
+
+* **Always release or commit:** every approved ticket must end in `Commit` or `Release`, including when `ExecuteMarketOrder` throws. Otherwise the reservation blocks margin and a position slot until the bot restarts.
+* **Refresh margin per unit:** margin depends on price and conversion rates. Refresh `SetMarginPerUnit` every few minutes, or after large moves, from `Symbol.GetEstimatedMargin`.
+* **One engine per account:** several bots on the same account should share one engine (for example a static instance in a shared library). Otherwise each bot only sees its own share of margin and exposure.
+* **The server still decides:** the engine prevents predictable rejections. It does not replace the server's margin checks, so keep handling `ErrorCode.NoMoney`.
+
+By keeping running margin, exposure per symbol, order size and position counters in memory, and reserving them atomically per order, the bot rejects orders it cannot afford in nanoseconds, before they reach the server, and only sends orders that are expected to pass.
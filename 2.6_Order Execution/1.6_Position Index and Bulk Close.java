@@ -0,0 +1,435 @@
+The "close all" sample in the external APIs notes runs `Positions.FindAll(Symbol, string.Empty)` and then calls `ClosePosition(position)` once per position. `FindAll` scans every open position of the account, and each synchronous `ClosePosition` waits for the server before the next one starts. With 400 positions to flatten at the end of the day, that is one scan plus 400 round trips in a row. This note replaces it with a **position index** that answers "which positions match this symbol, side, label or strategy" without scanning, stays up to date from the `Positions.Opened` and `Positions.Closed` events, and a **bulk close** that submits all closes concurrently, throttled by the token bucket from the batched order submission notes, and reports one aggregate result.
+
+### How the Index Works
+
+* Every open position is wrapped once in an `IndexedPosition` entry when it opens.
+* The entry is linked into four **buckets**, one per key: its symbol id, its symbol id and side, its label, and its strategy.
+* Each bucket is an intrusive doubly linked list: the `next` and `previous` links for all four keys live in the entry itself, so adding or removing a position is O(1) per key and no bucket holds a separate collection.
+* Buckets are found in O(1): symbol and symbol-plus-side buckets sit in arrays indexed by the interned symbol id, and label and strategy buckets in dictionaries.
+* A query with several keys starts from the **smallest** matching bucket and filters it by the other keys, so its cost is proportional to the number of candidates, never to the number of open positions.
+
+Strategy is whatever identifies the owning strategy in your bots. By default the index uses the position's comment, and a different selector (for example a label prefix) can be passed in.
+
+### Code Sample (Position Index)
+
+```csharp
+using System;
+using System.Collections.Generic;
+using cAlgo.API;
+
+public enum PositionKey
+{
+    Symbol,
+    SymbolSide,
+    Label,
+    Strategy
+}
+
+public sealed class IndexedPosition
+{
+    internal const int KeyCount = 4;
+    internal readonly IndexedPosition[] Next = new IndexedPosition[KeyCount];
+    internal readonly IndexedPosition[] Previous = new IndexedPosition[KeyCount];
+    internal readonly PositionBucket[] Buckets = new PositionBucket[KeyCount];
+
+    internal IndexedPosition(Position position, int symbolId, string strategy)
+    {
+        Position = position;
+        SymbolId = symbolId;
+        Strategy = strategy;
+    }
+
+    public Position Position { get; }
+    public int SymbolId { get; }
+    public string Strategy { get; }
+    public int Id => Position.Id;
+    public TradeType Side => Position.TradeType;
+    public string Label => Position.Label ?? string.Empty;
+}
+
+public sealed class PositionBucket
+{
+    private readonly int _key;
+
+    internal PositionBucket(PositionKey key)
+    {
+        _key = (int)key;
+    }
+
+    internal IndexedPosition Head { get; private set; }
+    public int Count { get; private set; }
+
+    internal void Add(IndexedPosition entry)
+    {
+        entry.Previous[_key] = null;
+        entry.Next[_key] = Head;
+        if (Head != null)
+            Head.Previous[_key] = entry;
+        Head = entry;
+        entry.Buckets[_key] = this;
+        Count++;
+    }
+
+    internal void Remove(IndexedPosition entry)
+    {
+        var prev = entry.Previous[_key];
+        var next = entry.Next[_key];
+        if (prev != null) prev.Next[_key] = next; else Head = next;
+        if (next != null) next.Previous[_key] = prev;
+
+        entry.Previous[_key] = entry.Next[_key] = null;
+        entry.Buckets[_key] = null;
+        Count--;
+    }
+
+    internal static IndexedPosition NextOf(IndexedPosition entry, PositionKey key) => entry.Next[(int)key];
+}
+
+public sealed class PositionIndex
+{
+    private static readonly PositionBucket Empty = new PositionBucket(PositionKey.Symbol);
+
+    private readonly SymbolRegistry _symbols;
+    private readonly Func<Position, string> _strategyOf;
+    private readonly Dictionary<int, IndexedPosition> _byId = new Dictionary<int, IndexedPosition>();
+    private readonly PositionBucket[] _bySymbol;
+    private readonly PositionBucket[] _bySymbolSide;
+    private readonly Dictionary<string, PositionBucket> _byLabel = new Dictionary<string, PositionBucket>(StringComparer.Ordinal);
+    private readonly Dictionary<string, PositionBucket> _byStrategy = new Dictionary<string, PositionBucket>(StringComparer.Ordinal);
+
+    public PositionIndex(SymbolRegistry symbols, Func<Position, string> strategyOf = null)
+    {
+        _symbols = symbols ?? throw new ArgumentNullException(nameof(symbols));
+        _strategyOf = strategyOf ?? (position => position.Comment ?? string.Empty);
+        _bySymbol = new PositionBucket[symbols.MaxSymbols];
+        _bySymbolSide = new PositionBucket[symbols.MaxSymbols * 2];
+    }
+
+    public int Count => _byId.Count;
+
+    // Call from Positions.Opened (and once per existing position in OnStart)
+    public IndexedPosition Add(Position position)
+    {
+        if (_byId.TryGetValue(position.Id, out var existing))
+            return existing;
+
+        int symbolId = _symbols.Intern(position.SymbolName);
+        var entry = new IndexedPosition(position, symbolId, _strategyOf(position));
+
+        (_bySymbol[symbolId] ??= new PositionBucket(PositionKey.Symbol)).Add(entry);
+        (_bySymbolSide[SideSlot(symbolId, entry.Side)] ??= new PositionBucket(PositionKey.SymbolSide)).Add(entry);
+        GetOrCreate(_byLabel, entry.Label, PositionKey.Label).Add(entry);
+        GetOrCreate(_byStrategy, entry.Strategy, PositionKey.Strategy).Add(entry);
+
+        _byId.Add(position.Id, entry);
+        return entry;
+    }
+
+    // Call from Positions.Closed
+    public bool Remove(int positionId)
+    {
+        if (!_byId.Remove(positionId, out var entry))
+            return false;
+
+        for (int key = 0; key < IndexedPosition.KeyCount; key++)
+            entry.Buckets[key]?.Remove(entry);
+
+        return true;
+    }
+
+    public bool TryGet(int positionId, out IndexedPosition entry) => _byId.TryGetValue(positionId, out entry);
+
+    public int CountBySymbol(int symbolId) => _bySymbol[symbolId]?.Count ?? 0;
+    public int CountBySide(int symbolId, TradeType side) => _bySymbolSide[SideSlot(symbolId, side)]?.Count ?? 0;
+    public int CountByLabel(string label) => _byLabel.TryGetValue(label, out var bucket) ? bucket.Count : 0;
+    public int CountByStrategy(string strategy) => _byStrategy.TryGetValue(strategy, out var bucket) ? bucket.Count : 0;
+
+    // Any key may be null; the smallest matching bucket is walked and filtered by the others
+    public List<IndexedPosition> Select(int? symbolId = null, TradeType? side = null, string label = null, string strategy = null)
+    {
+        var (bucket, key) = SmallestBucket(symbolId, side, label, strategy);
+        var result = new List<IndexedPosition>(bucket?.Count ?? _byId.Count);
+
+        if (bucket == null)
+        {
+            // No bucketed key given (at most a side): filter every open position
+            foreach (var entry in _byId.Values)
+            {
+                if (Matches(entry, symbolId, side, label, strategy))
+                    result.Add(entry);
+            }
+            return result;
+        }
+
+        for (var entry = bucket.Head; entry != null; entry = PositionBucket.NextOf(entry, key))
+        {
+            if (Matches(entry, symbolId, side, label, strategy))
+                result.Add(entry);
+        }
+
+        return result;
+    }
+
+    private static bool Matches(IndexedPosition entry, int? symbolId, TradeType? side, string label, string strategy) =>
+        (symbolId == null || entry.SymbolId == symbolId) &&
+        (side == null || entry.Side == side) &&
+        (label == null || entry.Label == label) &&
+        (strategy == null || entry.Strategy == strategy);
+
+    private (PositionBucket Bucket, PositionKey Key) SmallestBucket(int? symbolId, TradeType? side, string label, string strategy)
+    {
+        PositionBucket best = null;
+        var bestKey = PositionKey.Symbol;
+
+        void Consider(PositionBucket candidate, PositionKey key)
+        {
+            candidate ??= Empty; // A key with no bucket matches nothing
+            if (best == null || candidate.Count < best.Count)
+            {
+                best = candidate;
+                bestKey = key;
+            }
+        }
+
+        if (symbolId != null && side != null)
+            Consider(_bySymbolSide[SideSlot(symbolId.Value, side.Value)], PositionKey.SymbolSide);
+        else if (symbolId != null)
+            Consider(_bySymbol[symbolId.Value], PositionKey.Symbol);
+
+        if (label != null)
+            Consider(_byLabel.GetValueOrDefault(label), PositionKey.Label);
+        if (strategy != null)
+            Consider(_byStrategy.GetValueOrDefault(strategy), PositionKey.Strategy);
+
+        return (best, bestKey);
+    }
+
+    private static int SideSlot(int symbolId, TradeType side) => symbolId * 2 + (side == TradeType.Buy ? 0 : 1);
+
+    private static PositionBucket GetOrCreate(Dictionary<string, PositionBucket> buckets, string key, PositionKey kind)
+    {
+        if (!buckets.TryGetValue(key, out var bucket))
+        {
+            bucket = new PositionBucket(kind);
+            buckets.Add(key, bucket);
+        }
+        return bucket;
+    }
+}
+```
+
+`Select` allocates one list per query, sized to the candidate bucket, so the caller can close or modify the positions it returns while the index changes underneath. Buckets are kept after they become empty, because the same symbols, labels and strategies come back over and over.
+
+### Bulk Close
+
+`BulkPositionCloser` takes a list of positions and closes them all with `ClosePositionAsync`. Closes are handed to the robot's thread in token-bucket-sized batches, one `BeginInvokeOnMainThread` call per batch, exactly as `TradeService` does for new orders. The server works on all outstanding closes at the same time, so the total time is close to one round trip plus the throttling, instead of N round trips.
+
+```csharp
+using System;
+using System.Collections.Generic;
+using System.Diagnostics;
+using System.Linq;
+using System.Threading.Tasks;
+using cAlgo.API;
+
+public sealed record BulkCloseResult(int Requested, int Closed, int Failed, double NetProfit, TimeSpan Elapsed,
+    IReadOnlyDictionary<ErrorCode, int> Errors)
+{
+    public bool AllClosed => Failed == 0;
+}
+
+public sealed class BulkPositionCloser
+{
+    private static readonly TimeSpan MinimumWait = TimeSpan.FromMilliseconds(1);
+
+    private readonly Robot _robot;
+    private readonly TokenBucket _bucket;
+
+    public BulkPositionCloser(Robot robot, double closesPerSecond, int burst)
+    {
+        _robot = robot ?? throw new ArgumentNullException(nameof(robot));
+        _bucket = new TokenBucket(closesPerSecond, burst);
+    }
+
+    // Callers must not run two bulk closes at once: the bucket is not thread-safe
+    public async Task<BulkCloseResult> CloseAsync(IReadOnlyList<IndexedPosition> positions)
+    {
+        var clock = Stopwatch.StartNew();
+        var completions = new Task<TradeResult>[positions.Count];
+        var sources = new TaskCompletionSource<TradeResult>[positions.Count];
+        for (int i = 0; i < sources.Length; i++)
+        {
+            sources[i] = new TaskCompletionSource<TradeResult>(TaskCreationOptions.RunContinuationsAsynchronously);
+            completions[i] = sources[i].Task;
+        }
+
+        int offset = 0;
+        while (offset < positions.Count)
+        {
+            int granted = _bucket.TryTake(positions.Count - offset, out var wait);
+            if (granted == 0)
+            {
+                await Task.Delay(wait < MinimumWait ? MinimumWait : wait).ConfigureAwait(false);
+                continue;
+            }
+
+            int start = offset;
+            _robot.BeginInvokeOnMainThread(() =>
+            {
+                for (int i = start; i < start + granted; i++)
+                {
+                    var source = sources[i];
+                    try
+                    {
+                        _robot.ClosePositionAsync(positions[i].Position, result => source.TrySetResult(result));
+                    }
+                    catch (Exception ex)
+                    {
+                        source.TrySetException(ex);
+                    }
+                }
+            });
+
+            offset += granted;
+        }
+
+        // Wait for every close, then aggregate; one failure does not hide the others
+        try
+        {
+            await Task.WhenAll(completions).ConfigureAwait(false);
+        }
+        catch
+        {
+            // Individual failures are counted below
+        }
+
+        int closed = 0;
+        double netProfit = 0;
+        var errors = new Dictionary<ErrorCode, int>();
+
+        foreach (var completion in completions)
+        {
+            if (completion.IsCompletedSuccessfully && completion.Result.IsSuccessful)
+            {
+                closed++;
+                netProfit += completion.Result.Position.NetProfit;
+                continue;
+            }
+
+            var error = completion.IsCompletedSuccessfully ? completion.Result.Error ?? ErrorCode.TechnicalError : ErrorCode.TechnicalError;
+            errors[error] = errors.GetValueOrDefault(error) + 1;
+        }
+
+        return new BulkCloseResult(positions.Count, closed, positions.Count - closed, netProfit, clock.Elapsed, errors);
+    }
+}
+```
+
+The closer does not remove positions from the index itself. The index is updated by the `Positions.Closed` event like every other close, so positions closed by a stop loss, by hand or by the bulk close all go through the same path.
+
+### Flattening 400 Positions at the End of the Day
+
+```csharp
+using System;
+using System.Linq;
+using System.Threading.Tasks;
+using cAlgo.API;
+
+namespace cAlgo
+{
+    [Robot(TimeZone = TimeZones.UTC, AccessRights = AccessRights.None)]
+    public class EndOfDayFlattenBot : Robot
+    {
+        [Parameter("Flatten Hour (UTC)", DefaultValue = 21)]
+        public int FlattenHour { get; set; }
+
+        [Parameter("Flatten Minute", DefaultValue = 55)]
+        public int FlattenMinute { get; set; }
+
+        private readonly SymbolRegistry symbols = new SymbolRegistry(256);
+        private PositionIndex index;
+        private BulkPositionCloser closer;
+        private DateTime lastFlattenDay;
+        private bool flattening;
+
+        protected override void OnStart()
+        {
+            // Strategy = label prefix, e.g. "Grid-EURUSD-12" -> "Grid"
+            index = new PositionIndex(symbols, position => (position.Label ?? string.Empty).Split('-')[0]);
+            closer = new BulkPositionCloser(this, closesPerSecond: 40, burst: 40);
+
+            foreach (var position in Positions)
+                index.Add(position);
+
+            Positions.Opened += args => index.Add(args.Position);
+            Positions.Closed += args => index.Remove(args.Position.Id);
+
+            Timer.Start(1);
+        }
+
+        protected override void OnTimer()
+        {
+            var now = Server.TimeInUtc;
+            if (flattening || now.Date == lastFlattenDay || now.Hour != FlattenHour || now.Minute < FlattenMinute)
+                return;
+
+            lastFlattenDay = now.Date;
+
+            // O(1) lookup instead of Positions.FindAll; the closes go out concurrently
+            var grid = index.Select(strategy: "Grid");
+            Print("Flattening {0} of {1} open positions", grid.Count, index.Count);
+
+            flattening = true;
+            _ = FlattenAsync(grid);
+        }
+
+        private async Task FlattenAsync(System.Collections.Generic.List<IndexedPosition> positions)
+        {
+            BulkCloseResult result = null;
+            string failure = null;
+            try
+            {
+                result = await closer.CloseAsync(positions);
+            }
+            catch (Exception ex)
+            {
+                failure = ex.Message;
+            }
+            finally
+            {
+                BeginInvokeOnMainThread(() =>
+                {
+                    flattening = false;
+                    if (result == null)
+                    {
+                        Print("Flatten failed: {0}", failure);
+                        return;
+                    }
+
+                    Print("Closed {0}/{1} in {2:F0} ms, net {3:F2} {4}", result.Closed, result.Requested,
+                        result.Elapsed.TotalMilliseconds, result.NetProfit, Account.Asset.Name);
+
+                    foreach (var (error, count) in result.Errors)
+                        Print("  {0} x {1}", count, error);
+                });
+            }
+        }
+    }
+}
+```
+
+The original sample becomes a single line that only touches the EURUSD positions:
+
+```csharp
+var positions = index.Select(symbolId: symbols.Intern(SymbolName));
+_ = closer.CloseAsync(positions);
+```
+
+### Tips
+
+* **Keep the index on the robot's thread:** the `Positions` events fire on the robot's thread. Run queries there too, or marshal them with `BeginInvokeOnMainThread`; the index itself has no locks.
+* **Retry only what failed:** after a bulk close, call `Select` again with the same keys. Positions that failed to close are still in the index, so the second bulk close only retries those.
+* **Share the limit:** closes and new orders count toward the same broker rate limit. If `TradeService` is also active, size both buckets so that together they stay below the limit.
+* **Partial closes keep the entry:** `ModifyPosition` and partial closes change a position's volume but not its keys, so the index does not need to react to them.
+
+By indexing open positions by symbol, side, label and strategy in intrusive per-key lists updated from the platform's position events, and closing them concurrently through a throttled bulk closer, flattening hundreds of positions costs one O(k) lookup and roughly one server round trip, instead of a full scan and hundreds of sequential round trips.